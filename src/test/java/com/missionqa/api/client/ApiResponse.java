@@ -1,30 +1,241 @@
 package com.missionqa.api.client;
 
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
 import io.restassured.response.Response;
 
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
- * Generic API response wrapper.
- * Keeps raw RestAssured response and status code together.
+ * Generic API response wrapper and the return type of the API clients.
+ * Keeps the status code and the raw body bytes; everything else is decoded lazily and cached:
+ * the body text, a Jackson tree for path lookups, and typed models via {@link #as(Class)}.
+ * {@link #streamArrayField(String, String, Class)} reads one field out of a large array
+ * without building the tree at all.
+ *
+ * Paths use the same dotted form as RestAssured's JsonPath ("data.first_name");
+ * a segment applied to an array collects that field from every element ("data.id").
  */
 public class ApiResponse {
 
-    private final Response response;
+    // Shared and thread-safe once configured
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+            .setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY);
+
     private final int statusCode;
+    private final String contentType;
+    private final byte[] body;
+
+    private String bodyText;
+    private JsonNode json;
+    private final Map<Class<?>, Object> typed = new HashMap<>();
+
+    public ApiResponse(int statusCode, String contentType, byte[] body) {
+        this.statusCode = statusCode;
+        this.contentType = contentType == null ? "" : contentType;
+        this.body = body == null ? new byte[0] : body;
+    }
 
-    public ApiResponse(Response response) {
-        this.response = response;
-        this.statusCode = response.getStatusCode();
+    public static ApiResponse from(Response response) {
+        return new ApiResponse(response.getStatusCode(), response.getContentType(), response.asByteArray());
     }
 
-    public Response getResponse() {
-        return response;
+    static ObjectMapper mapper() {
+        return MAPPER;
     }
 
     public int getStatusCode() {
         return statusCode;
     }
 
+    public String getContentType() {
+        return contentType;
+    }
+
+    /**
+     * Raw body bytes (not copied - do not modify).
+     */
+    public byte[] getBody() {
+        return body;
+    }
+
     public String getBodyAsString() {
-        return response.getBody().asString();
+        if (bodyText == null) {
+            bodyText = new String(body, charset());
+        }
+        return bodyText;
+    }
+
+    /**
+     * Parsed body, cached after the first call.
+     */
+    public JsonNode json() {
+        if (json == null) {
+            try {
+                json = body.length == 0 ? MAPPER.missingNode() : MAPPER.readTree(body);
+            } catch (IOException e) {
+                throw new IllegalStateException("Response body is not valid JSON: " + getBodyAsString(), e);
+            }
+        }
+        return json;
+    }
+
+    /**
+     * Body decoded into a model, cached per type.
+     */
+    public <T> T as(Class<T> type) {
+        Object value = typed.get(type);
+        if (value == null) {
+            try {
+                // Reuse the tree if something already parsed it
+                value = json != null ? MAPPER.treeToValue(json, type) : MAPPER.readValue(body, type);
+            } catch (IOException e) {
+                throw new IllegalStateException("Cannot decode response as " + type.getSimpleName() + ": " + getBodyAsString(), e);
+            }
+            typed.put(type, value);
+        }
+        return type.cast(value);
+    }
+
+    /**
+     * Value at the path as a plain Java object (String, Integer, List, Map...) or null if absent.
+     */
+    public Object get(String path) {
+        JsonNode node = resolve(path);
+        if (node == null || node.isNull()) return null;
+        try {
+            return MAPPER.treeToValue(node, Object.class);
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot convert value at " + path, e);
+        }
+    }
+
+    public String getString(String path) {
+        JsonNode node = resolve(path);
+        if (node == null || node.isNull()) return null;
+        return node.isValueNode() ? node.asText() : node.toString();
+    }
+
+    public Integer getInt(String path) {
+        JsonNode node = resolve(path);
+        if (node == null || node.isNull()) return null;
+        return node.isNumber() ? Integer.valueOf(node.intValue()) : Integer.valueOf(node.asText());
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> List<T> getList(String path) {
+        Object value = get(path);
+        if (value == null) return null;
+        if (value instanceof List) return (List<T>) value;
+        List<T> single = new ArrayList<>();
+        single.add((T) value);
+        return single;
+    }
+
+    /**
+     * {@code field} of every element of the array at {@code arrayPath} (e.g. "data", "id"),
+     * read with the streaming parser: nothing but the requested values is materialized, and
+     * parsing stops at the end of the array. Returns null if the array is absent.
+     */
+    public <T> List<T> streamArrayField(String arrayPath, String field, Class<T> type) {
+        if (json != null) {
+            // Already paid for the tree - use it
+            List<Object> values = getList(arrayPath + "." + field);
+            return values == null ? null : convertAll(values, type);
+        }
+
+        try (JsonParser p = MAPPER.createParser(body)) {
+            if (!seek(p, arrayPath.split("\\."), 0) || p.currentToken() != JsonToken.START_ARRAY) {
+                return null;
+            }
+
+            List<T> out = new ArrayList<>();
+            while (p.nextToken() != JsonToken.END_ARRAY) {
+                if (p.currentToken() != JsonToken.START_OBJECT) {
+                    p.skipChildren();
+                    continue;
+                }
+                while (p.nextToken() == JsonToken.FIELD_NAME) {
+                    String name = p.currentName();
+                    p.nextToken();
+                    if (field.equals(name) && p.currentToken() != JsonToken.VALUE_NULL) {
+                        out.add(p.readValueAs(type));
+                    } else {
+                        p.skipChildren();
+                    }
+                }
+            }
+            return out;
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot stream " + arrayPath + "[]." + field + " from: " + getBodyAsString(), e);
+        }
+    }
+
+    // Moves the parser onto the value at path[depth..] inside the current object
+    private static boolean seek(JsonParser p, String[] path, int depth) throws IOException {
+        if (p.nextToken() != JsonToken.START_OBJECT) return false;
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String name = p.currentName();
+            if (name.equals(path[depth])) {
+                if (depth == path.length - 1) {
+                    p.nextToken();
+                    return true;
+                }
+                return seek(p, path, depth + 1);
+            }
+            p.nextToken();
+            p.skipChildren();
+        }
+        return false;
+    }
+
+    private static <T> List<T> convertAll(List<Object> values, Class<T> type) {
+        List<T> out = new ArrayList<>(values.size());
+        for (Object v : values) {
+            out.add(MAPPER.convertValue(v, type));
+        }
+        return out;
+    }
+
+    private JsonNode resolve(String path) {
+        JsonNode current = json();
+        for (String segment : path.split("\\.")) {
+            if (current == null || current.isMissingNode() || current.isNull()) return null;
+
+            if (current.isArray()) {
+                ArrayNode collected = MAPPER.createArrayNode();
+                for (JsonNode element : current) {
+                    JsonNode v = element.get(segment);
+                    if (v != null) collected.add(v);
+                }
+                current = collected;
+            } else {
+                current = current.get(segment);
+            }
+        }
+        return (current == null || current.isMissingNode()) ? null : current;
+    }
+
+    private Charset charset() {
+        int idx = contentType.toLowerCase().indexOf("charset=");
+        if (idx < 0) return StandardCharsets.UTF_8;
+        try {
+            return Charset.forName(contentType.substring(idx + 8).split(";")[0].trim().replace("\"", ""));
+        } catch (RuntimeException e) {
+            return StandardCharsets.UTF_8;
+        }
     }
 }
@@ -0,0 +1,25 @@
+package com.missionqa.api.client;
+
+import com.missionqa.config.TestConfig;
+
+import java.util.Map;
+
+/**
+ * How ReqResClient reaches the API, selected with {@code api.transport}:
+ *   http     - real HTTP through RestAssured and the shared connection pool (default)
+ *   inmemory - handed straight to the worker's WireMock stubs, no sockets (see {@link InMemoryTransport})
+ */
+public interface ApiTransport {
+
+    ApiResponse get(String pathAndQuery);
+
+    ApiResponse postJson(String path, Object body);
+
+    static boolean inMemory() {
+        return "inmemory".equalsIgnoreCase(TestConfig.getProperty("api.transport", "http").trim());
+    }
+
+    static ApiTransport create(String baseUrl, Map<String, String> headers) {
+        return inMemory() ? InMemoryTransport.forCurrentThread(headers) : new HttpTransport(baseUrl, headers);
+    }
+}
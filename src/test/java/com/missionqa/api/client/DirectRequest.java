@@ -0,0 +1,80 @@
+package com.missionqa.api.client;
+
+import com.github.tomakehurst.wiremock.common.Urls;
+import com.github.tomakehurst.wiremock.http.ContentTypeHeader;
+import com.github.tomakehurst.wiremock.http.Cookie;
+import com.github.tomakehurst.wiremock.http.HttpHeader;
+import com.github.tomakehurst.wiremock.http.HttpHeaders;
+import com.github.tomakehurst.wiremock.http.QueryParameter;
+import com.github.tomakehurst.wiremock.http.Request;
+import com.github.tomakehurst.wiremock.http.RequestMethod;
+import com.google.common.base.Optional;
+
+import java.net.URI;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Minimal WireMock {@link Request} for in-process dispatch: method, URL, headers and body.
+ * No cookies or multipart - ReqResClient sends neither.
+ */
+final class DirectRequest implements Request {
+
+    private static final String HOST = "localhost";
+
+    private final RequestMethod method;
+    private final String url;
+    private final HttpHeaders headers;
+    private final byte[] body;
+    private final Map<String, QueryParameter> query;
+
+    DirectRequest(RequestMethod method, String url, List<HttpHeader> headers, byte[] body) {
+        this.method = method;
+        this.url = url;
+        this.headers = new HttpHeaders(headers);
+        this.body = body;
+        this.query = Urls.splitQuery(URI.create(getAbsoluteUrl()));
+    }
+
+    @Override public String getUrl() { return url; }
+    @Override public String getAbsoluteUrl() { return getScheme() + "://" + HOST + url; }
+    @Override public RequestMethod getMethod() { return method; }
+    @Override public String getScheme() { return "http"; }
+    @Override public String getHost() { return HOST; }
+    @Override public int getPort() { return 80; }
+    @Override public String getClientIp() { return "127.0.0.1"; }
+    @Override public String getProtocol() { return "HTTP/1.1"; }
+
+    @Override
+    public String getHeader(String key) {
+        HttpHeader header = header(key);
+        return header.isPresent() ? header.firstValue() : null;
+    }
+
+    @Override public HttpHeader header(String key) { return headers.getHeader(key); }
+    @Override public ContentTypeHeader contentTypeHeader() { return headers.getContentTypeHeader(); }
+    @Override public HttpHeaders getHeaders() { return headers; }
+    @Override public boolean containsHeader(String key) { return header(key).isPresent(); }
+    @Override public Set<String> getAllHeaderKeys() { return headers.keys(); }
+    @Override public Map<String, Cookie> getCookies() { return Collections.emptyMap(); }
+
+    @Override
+    public QueryParameter queryParameter(String key) {
+        QueryParameter param = query.get(key);
+        return param != null ? param : QueryParameter.absent(key);
+    }
+
+    @Override public byte[] getBody() { return body; }
+    @Override public String getBodyAsString() { return new String(body, contentTypeHeader().charset()); }
+    @Override public String getBodyAsBase64() { return Base64.getEncoder().encodeToString(body); }
+
+    @Override public boolean isMultipart() { return false; }
+    @Override public Collection<Part> getParts() { return Collections.emptyList(); }
+    @Override public Part getPart(String name) { return null; }
+    @Override public boolean isBrowserProxyRequest() { return false; }
+    @Override public Optional<Request> getOriginalRequest() { return Optional.absent(); }
+}
@@ -0,0 +1,93 @@
+package com.missionqa.api.client;
+
+import com.missionqa.config.TestConfig;
+import io.restassured.config.HttpClientConfig;
+import io.restassured.config.RestAssuredConfig;
+import org.apache.http.HttpConnection;
+import org.apache.http.HttpRequestInterceptor;
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.params.ClientPNames;
+import org.apache.http.conn.ClientConnectionManager;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.params.CoreConnectionPNames;
+import org.apache.http.protocol.ExecutionContext;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * One JVM-wide keep-alive connection pool shared by every ReqResClient, so connections are
+ * reused across requests and scenarios instead of RestAssured opening a new one per call.
+ *
+ * Only the (thread-safe) connection manager is shared. RestAssured re-registers its
+ * content-decoding interceptors on the client for every request, so each thread gets its own
+ * client on top of the pool; a shared client would let parallel requests race on that list.
+ *
+ * RestAssured 5 still drives Apache HttpClient 4's AbstractHttpClient, hence the legacy classes.
+ */
+final class HttpConnectionPool {
+
+    private static final AtomicLong REQUESTS = new AtomicLong();
+    private static final AtomicLong REUSED = new AtomicLong();
+
+    @SuppressWarnings("deprecation")
+    private static final ClientConnectionManager CONNECTIONS = createConnectionManager();
+
+    private static final ThreadLocal<HttpClient> CLIENT = ThreadLocal.withInitial(HttpConnectionPool::createClient);
+
+    // Not "reuse": RestAssured then asks the factory on every request and gets the thread's client
+    private static final RestAssuredConfig CONFIG = RestAssuredConfig.config().httpClient(
+            HttpClientConfig.httpClientConfig()
+                    .httpClientFactory(CLIENT::get)
+                    .dontReuseHttpClientInstance());
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(CONNECTIONS::shutdown, "http-pool-shutdown"));
+    }
+
+    private HttpConnectionPool() {}
+
+    static RestAssuredConfig restAssuredConfig() {
+        return CONFIG;
+    }
+
+    static String stats() {
+        long requests = REQUESTS.get();
+        long reused = REUSED.get();
+        return "http pool: " + requests + " requests, " + reused + " on reused connections, "
+                + (requests - reused) + " new connections";
+    }
+
+    @SuppressWarnings("deprecation")
+    private static ClientConnectionManager createConnectionManager() {
+        PoolingClientConnectionManager cm = new PoolingClientConnectionManager();
+        cm.setMaxTotal(TestConfig.getInt("api.http.maxTotal", 50));
+        cm.setDefaultMaxPerRoute(TestConfig.getInt("api.http.maxPerRoute", 20));
+        return cm;
+    }
+
+    @SuppressWarnings("deprecation")
+    private static HttpClient createClient() {
+        DefaultHttpClient client = new DefaultHttpClient(CONNECTIONS);
+        client.getParams().setIntParameter(CoreConnectionPNames.CONNECTION_TIMEOUT,
+                TestConfig.getInt("api.http.connectTimeoutMs", 10_000));
+        client.getParams().setIntParameter(CoreConnectionPNames.SO_TIMEOUT,
+                TestConfig.getInt("api.http.readTimeoutMs", 30_000));
+        client.getParams().setLongParameter(ClientPNames.CONN_MANAGER_TIMEOUT,
+                TestConfig.getInt("api.http.connectTimeoutMs", 10_000));
+
+        long keepAliveMs = TestConfig.getInt("api.http.keepAliveMs", 30_000);
+        client.setKeepAliveStrategy((response, context) -> keepAliveMs);
+
+        // A connection that already carried a request is a reused one
+        client.addRequestInterceptor((HttpRequestInterceptor) (request, context) -> {
+            REQUESTS.incrementAndGet();
+            Object conn = context.getAttribute(ExecutionContext.HTTP_CONNECTION);
+            if (conn instanceof HttpConnection && ((HttpConnection) conn).getMetrics().getRequestCount() > 0) {
+                REUSED.incrementAndGet();
+            }
+        });
+
+        return client;
+    }
+}
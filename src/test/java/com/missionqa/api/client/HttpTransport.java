@@ -0,0 +1,48 @@
+package com.missionqa.api.client;
+
+import io.restassured.RestAssured;
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.specification.RequestSpecification;
+
+import java.util.Map;
+
+import static io.restassured.http.ContentType.JSON;
+
+/**
+ * Real HTTP via RestAssured, on the shared keep-alive connection pool.
+ */
+final class HttpTransport implements ApiTransport {
+
+    // Built once per client; each request layers on top of it without mutating it
+    private final RequestSpecification spec;
+
+    HttpTransport(String baseUrl, Map<String, String> headers) {
+        this.spec = new RequestSpecBuilder()
+                .setBaseUri(baseUrl)
+                .setConfig(HttpConnectionPool.restAssuredConfig())
+                .addHeaders(headers)
+                .build();
+    }
+
+    private RequestSpecification request() {
+        return RestAssured.given().spec(spec);
+    }
+
+    @Override
+    public ApiResponse get(String pathAndQuery) {
+        return ApiResponse.from(request()
+                .when()
+                .get(pathAndQuery)
+                .andReturn());
+    }
+
+    @Override
+    public ApiResponse postJson(String path, Object body) {
+        return ApiResponse.from(request()
+                .contentType(JSON)
+                .body(body)
+                .when()
+                .post(path)
+                .andReturn());
+    }
+}
@@ -0,0 +1,84 @@
+package com.missionqa.api.client;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.github.tomakehurst.wiremock.direct.DirectCallHttpServer;
+import com.github.tomakehurst.wiremock.http.ContentTypeHeader;
+import com.github.tomakehurst.wiremock.http.HttpHeader;
+import com.github.tomakehurst.wiremock.http.RequestMethod;
+import com.github.tomakehurst.wiremock.http.Response;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sends requests straight into a WireMock {@link DirectCallHttpServer}: the same stub
+ * mappings ApiMockHook serves over HTTP, matched and rendered in-process with no sockets,
+ * serialization to the wire or Jetty threads. ApiMockHook binds the worker's server to the
+ * scenario thread; clients created on that thread dispatch to it.
+ */
+public final class InMemoryTransport implements ApiTransport {
+
+    private static final ThreadLocal<DirectCallHttpServer> BOUND = new ThreadLocal<>();
+
+    private final DirectCallHttpServer server;
+    private final List<HttpHeader> headers;
+
+    private InMemoryTransport(DirectCallHttpServer server, Map<String, String> headers) {
+        this.server = server;
+        this.headers = new ArrayList<>();
+        headers.forEach((k, v) -> this.headers.add(new HttpHeader(k, v)));
+    }
+
+    public static void bind(DirectCallHttpServer server) {
+        BOUND.set(server);
+    }
+
+    public static void unbind() {
+        BOUND.remove();
+    }
+
+    static InMemoryTransport forCurrentThread(Map<String, String> headers) {
+        DirectCallHttpServer server = BOUND.get();
+        if (server == null) {
+            throw new IllegalStateException("api.transport=inmemory but no mock server is bound to this thread. "
+                    + "In-memory calls only work inside @api scenarios (ApiMockHook).");
+        }
+        return new InMemoryTransport(server, headers);
+    }
+
+    @Override
+    public ApiResponse get(String pathAndQuery) {
+        return send(new DirectRequest(RequestMethod.GET, pathAndQuery, headers, new byte[0]));
+    }
+
+    @Override
+    public ApiResponse postJson(String path, Object body) {
+        byte[] json;
+        try {
+            json = ApiResponse.mapper().writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Cannot serialize request body for " + path, e);
+        }
+
+        List<HttpHeader> withType = new ArrayList<>(headers);
+        withType.add(new HttpHeader(ContentTypeHeader.KEY, "application/json; charset=UTF-8"));
+        return send(new DirectRequest(RequestMethod.POST, path, withType, json));
+    }
+
+    private ApiResponse send(DirectRequest request) {
+        Response response = server.stubRequest(request);
+        if (response.getFault() != null) {
+            // Over HTTP a fault surfaces as an I/O error; keep that contract
+            throw new UncheckedIOException(new IOException("Mock fault " + response.getFault() + " for " + request.getUrl()));
+        }
+
+        ContentTypeHeader contentType = response.getHeaders().getContentTypeHeader();
+        return new ApiResponse(
+                response.getStatus(),
+                contentType.isPresent() ? contentType.firstValue() : null,
+                response.getBody());
+    }
+}
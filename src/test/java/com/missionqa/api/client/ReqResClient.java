@@ -1,85 +1,131 @@
 package com.missionqa.api.client;
 
 import com.missionqa.config.TestConfig;
-import io.restassured.RestAssured;
-import io.restassured.response.Response;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-
-import static io.restassured.http.ContentType.JSON;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
 public class ReqResClient {
 
+    // Shared, bounded pool for concurrent page fetches (api.paging.concurrency threads)
+    private static final ExecutorService PAGE_FETCHER = newPageFetcher();
+
+    // Centralized request defaults (helps avoid Cloudflare blocks)
+    private static final Map<String, String> DEFAULT_HEADERS = Map.of(
+            "Accept", "application/json",
+            "User-Agent", "Mozilla/5.0 (Macintosh; Intel Mac OS X 10_15_7) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/144.0.0.0 Safari/537.36",
+            "Accept-Language", "en-US,en;q=0.9");
+
+    // Set once a client goes over HTTP, so reading the stats never starts the pool by itself
+    private static volatile boolean httpUsed;
+
     private final String baseUrl;
 
+    // Real HTTP or in-process dispatch to the mock stubs (api.transport)
+    private final ApiTransport transport;
+
     public ReqResClient() {
         String cfg;
         try {
-            cfg = System.getProperty("api.baseUrl", TestConfig.getProperty("api.baseUrl"));
+            cfg = TestConfig.apiBaseUrl();
 
         } catch (Exception e) {
             cfg = "http://localhost:8080";
         }
         this.baseUrl = cfg;
+        this.transport = ApiTransport.create(baseUrl, DEFAULT_HEADERS);
+        if (transport instanceof HttpTransport) httpUsed = true;
     }
 
-    // Centralized request defaults (helps avoid Cloudflare blocks)
-    private io.restassured.specification.RequestSpecification request() {
-        return RestAssured
-                .given()
-                .baseUri(baseUrl)
-                .header("Accept", "application/json")
-                .header("User-Agent", "Mozilla/5.0 (Macintosh; Intel Mac OS X 10_15_7) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/144.0.0.0 Safari/537.36")
-                .header("Accept-Language", "en-US,en;q=0.9");
+    /**
+     * Requests sent vs. requests served on an already-open (keep-alive) connection, or an
+     * empty string when no client has used HTTP (api.transport=inmemory, or no API scenario ran).
+     */
+    public static String connectionStats() {
+        return httpUsed ? HttpConnectionPool.stats() : "";
+    }
+
+    public ApiResponse listUsers(int page) {
+        return transport.get("/api/users?page=" + page);
+    }
+
+    public CompletableFuture<ApiResponse> listUsersAsync(int page) {
+        return CompletableFuture.supplyAsync(() -> listUsers(page), PAGE_FETCHER);
     }
 
-    public Response listUsers(int page) {
-        return request()
-                .when()
-                .get("/api/users?page=" + page)
-                .andReturn();
+    /**
+     * Every page of the user list, in page order. The already-fetched first page is reused
+     * and pages 2..total_pages are fetched concurrently on the bounded page pool.
+     * {@code onPage} runs for each page as it arrives (on the fetching thread), so it must be thread-safe.
+     */
+    public List<ApiResponse> listAllUserPages(ApiResponse firstPage, Consumer<ApiResponse> onPage) {
+        onPage.accept(firstPage);
+
+        Integer totalPages = firstPage.getInt("total_pages");
+        if (totalPages == null || totalPages <= 1) {
+            return List.of(firstPage);
+        }
+
+        List<CompletableFuture<ApiResponse>> rest = new ArrayList<>();
+        for (int page = 2; page <= totalPages; page++) {
+            rest.add(listUsersAsync(page).thenApply(r -> {
+                onPage.accept(r);
+                return r;
+            }));
+        }
+
+        List<ApiResponse> pages = new ArrayList<>();
+        pages.add(firstPage);
+        try {
+            rest.forEach(f -> pages.add(f.join()));
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) throw (RuntimeException) e.getCause();
+            if (e.getCause() instanceof Error) throw (Error) e.getCause();
+            throw e;
+        }
+        return pages;
     }
 
-    public Response listUsersDelayed(int delaySeconds) {
-        return request()
-                .when()
-                .get("/api/users?delay=" + delaySeconds)
-                .andReturn();
+    public ApiResponse listUsersDelayed(int delaySeconds) {
+        return transport.get("/api/users?delay=" + delaySeconds);
     }
 
-    public Response getUser(int userId) {
-        return request()
-                .when()
-                .get("/api/users/" + userId)
-                .andReturn();
+    public ApiResponse getUser(int userId) {
+        return transport.get("/api/users/" + userId);
     }
 
-    public Response createUser(String name, String job) {
+    public ApiResponse createUser(String name, String job) {
         Map<String, Object> body = new HashMap<>();
         body.put("name", name);
         body.put("job", job);
 
-        return request()
-                .contentType(JSON)
-                .body(body)
-                .when()
-                .post("/api/users")
-                .andReturn();
+        return transport.postJson("/api/users", body);
     }
 
-    public Response login(String email, String password) {
+    public ApiResponse login(String email, String password) {
         Map<String, Object> body = new HashMap<>();
         body.put("email", email);
         if (password != null && !password.trim().isEmpty()) {
             body.put("password", password);
         }
 
-        return request()
-                .contentType(JSON)
-                .body(body)
-                .when()
-                .post("/api/login")
-                .andReturn();
+        return transport.postJson("/api/login", body);
+    }
+
+    private static ExecutorService newPageFetcher() {
+        AtomicInteger seq = new AtomicInteger();
+        return Executors.newFixedThreadPool(TestConfig.getInt("api.paging.concurrency", 4), r -> {
+            Thread t = new Thread(r, "api-page-fetch-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
     }
 }
@@ -1,15 +1,23 @@
 package com.missionqa.api.steps;
 
+import com.missionqa.api.client.ApiResponse;
 import com.missionqa.api.client.ReqResClient;
+import com.missionqa.api.models.CreateUserRequestResponse;
+import com.missionqa.core.LazyAssert;
 import com.missionqa.core.TestContext;
 import io.cucumber.datatable.DataTable;
 import io.cucumber.java.en.Given;
 import io.cucumber.java.en.When;
 import io.cucumber.java.en.Then;
 import io.cucumber.java.en.And;
-import io.restassured.response.Response;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.testng.Assert.*;
 
@@ -20,6 +28,8 @@ public class ApiSteps {
 
         private static final String LAST_RESPONSE = "lastResponse";
         private static final String ALL_USER_IDS = "allUserIds";
+        private static final String CALLER_PAGES = "callerPages";
+        private static final String CALLER_PAGE_CALLBACKS = "callerPageCallbacks";
 
         // -------------------------
         // LIST USERS
@@ -27,45 +37,46 @@ public class ApiSteps {
 
         @Given("^I get the default list of users for on 1st page$")
         public void iGetTheDefaultListofusers() {
-                Response resp = client.listUsers(1);
+                ApiResponse resp = client.listUsers(1);
                 ctx.set(LAST_RESPONSE, resp);
 
-                assertEquals(
+                LazyAssert.assertEquals(
                         resp.getStatusCode(),
                         200,
-                        "Expected 200 for list users page 1. Body: " + resp.getBody().asString()
+                        () -> "Expected 200 for list users page 1. Body: " + resp.getBodyAsString()
                 );
         }
 
         @When("I get the list of all users within every page")
         public void iGetTheListOfAllUsers() {
-                Response first = client.listUsers(1);
-                assertEquals(first.getStatusCode(), 200, "Expected 200 for list users. Body: " + first.getBody().asString());
-
-                Integer totalPages = first.jsonPath().getInt("total_pages");
-                if (totalPages == null || totalPages < 1) totalPages = 1;
-
-                Set<Integer> ids = new HashSet<>();
-
-                for (int page = 1; page <= totalPages; page++) {
-                        Response r = client.listUsers(page);
-                        assertEquals(r.getStatusCode(), 200, "Expected 200 for list users page " + page + ". Body: " + r.getBody().asString());
-
-                        List<Integer> pageIds = r.jsonPath().getList("data.id");
+                ApiResponse first = client.listUsers(1);
+                LazyAssert.assertEquals(first.getStatusCode(), 200, () -> "Expected 200 for list users. Body: " + first.getBodyAsString());
+
+                // Page 1 is reused, the remaining pages are fetched concurrently.
+                // Ids are streamed out of each page on the thread that fetched it; no page tree is built.
+                Set<Integer> ids = ConcurrentHashMap.newKeySet();
+                List<ApiResponse> pages = client.listAllUserPages(first, page -> {
+                        if (page.getStatusCode() != 200) return; // asserted below, on the step thread
+                        List<Integer> pageIds = page.streamArrayField("data", "id", Integer.class);
                         if (pageIds != null) ids.addAll(pageIds);
+                });
 
-                        ctx.set(LAST_RESPONSE, r);
+                for (int i = 0; i < pages.size(); i++) {
+                        ApiResponse r = pages.get(i);
+                        int page = i + 1;
+                        LazyAssert.assertEquals(r.getStatusCode(), 200, () -> "Expected 200 for list users page " + page + ". Body: " + r.getBodyAsString());
                 }
+                ctx.set(LAST_RESPONSE, pages.get(pages.size() - 1));
 
                 ctx.set(ALL_USER_IDS, ids);
         }
 
         @Then("I should see total users count equals the number of user ids")
         public void iShouldMatchTotalCount() {
-                Response r = (Response) ctx.get(LAST_RESPONSE);
+                ApiResponse r = (ApiResponse) ctx.get(LAST_RESPONSE);
                 if (r == null) r = client.listUsers(1);
 
-                Integer total = r.jsonPath().getInt("total");
+                Integer total = r.getInt("total");
                 assertNotNull(total, "API did not return 'total'");
 
                 @SuppressWarnings("unchecked")
@@ -75,25 +86,87 @@ public class ApiSteps {
                 assertEquals(ids.size(), total.intValue(), "Total users count should match unique user ids count");
         }
 
+        @When("{int} callers get the list of all users within every page at once")
+        public void callersGetTheListOfAllUsersAtOnce(int callers) throws InterruptedException {
+                // Every caller fetches page 1 itself, then the rest through the shared page pool,
+                // so requests from several threads overlap on the pooled HTTP connections
+                ExecutorService pool = Executors.newFixedThreadPool(callers);
+                CountDownLatch start = new CountDownLatch(1);
+                List<Future<List<ApiResponse>>> futures = new ArrayList<>();
+                List<Map<Integer, Integer>> callbacks = new ArrayList<>();
+                try {
+                        for (int i = 0; i < callers; i++) {
+                                Map<Integer, Integer> seen = new ConcurrentHashMap<>();
+                                callbacks.add(seen);
+                                futures.add(pool.submit(() -> {
+                                        start.await();
+                                        return client.listAllUserPages(client.listUsers(1),
+                                                page -> seen.merge(page.getInt("page"), 1, Integer::sum));
+                                }));
+                        }
+                        start.countDown();
+
+                        List<List<ApiResponse>> pages = new ArrayList<>();
+                        for (Future<List<ApiResponse>> f : futures) {
+                                try {
+                                        pages.add(f.get());
+                                } catch (ExecutionException e) {
+                                        throw new AssertionError("Concurrent page fetch failed: " + e.getCause(), e.getCause());
+                                }
+                        }
+                        ctx.set(CALLER_PAGES, pages);
+                        ctx.set(CALLER_PAGE_CALLBACKS, callbacks);
+                } finally {
+                        pool.shutdownNow();
+                }
+        }
+
+        @Then("every caller should see each page exactly once, decoded")
+        public void everyCallerShouldSeeEachPageExactlyOnce() {
+                @SuppressWarnings("unchecked")
+                List<List<ApiResponse>> callerPages = (List<List<ApiResponse>>) ctx.get(CALLER_PAGES);
+                @SuppressWarnings("unchecked")
+                List<Map<Integer, Integer>> callbacks = (List<Map<Integer, Integer>>) ctx.get(CALLER_PAGE_CALLBACKS);
+                assertNotNull(callerPages, "No pages were collected. Did the When step run?");
+
+                for (int c = 0; c < callerPages.size(); c++) {
+                        int caller = c;
+                        List<ApiResponse> pages = callerPages.get(c);
+                        Map<Integer, Integer> seen = callbacks.get(c);
+                        Integer totalPages = pages.get(0).getInt("total_pages");
+                        assertNotNull(totalPages, "API did not return 'total_pages'");
+                        assertEquals(pages.size(), totalPages.intValue(), "Caller " + caller + " page count");
+
+                        for (int i = 0; i < pages.size(); i++) {
+                                ApiResponse r = pages.get(i);
+                                int page = i + 1;
+                                LazyAssert.assertEquals(r.getStatusCode(), 200, () -> "Caller " + caller + ", page " + page + ". Body: " + r.getBodyAsString());
+                                // The response in slot i is page i + 1, and onPage ran exactly once for it
+                                LazyAssert.assertEquals(r.getInt("page"), page, () -> "Caller " + caller + " got the wrong body for page " + page + ": " + r.getBodyAsString());
+                                LazyAssert.assertEquals(seen.get(page), 1, () -> "Caller " + caller + " saw page " + page + " " + seen.get(page) + " times");
+                        }
+                }
+        }
+
         // -------------------------
         // SINGLE USER
         // -------------------------
 
         @Given("I make a search for user {int}")
         public void iMakeASearchForUser(int userId) {
-                Response resp = client.getUser(userId);
+                ApiResponse resp = client.getUser(userId);
                 ctx.set(LAST_RESPONSE, resp);
         }
 
         @Then("I should see the following user data")
         public void IShouldSeeFollowingUserData(DataTable dt) {
-                Response resp = (Response) ctx.get(LAST_RESPONSE);
+                ApiResponse resp = (ApiResponse) ctx.get(LAST_RESPONSE);
                 assertNotNull(resp, "No response found in context");
 
-                assertEquals(
+                LazyAssert.assertEquals(
                         resp.getStatusCode(),
                         200,
-                        "Expected 200 for single user. Body: " + resp.getBody().asString()
+                        () -> "Expected 200 for single user. Body: " + resp.getBodyAsString()
                 );
 
                 // Feature format:
@@ -102,20 +175,20 @@ public class ApiSteps {
                 Map<String, String> expected = singleRowTableToMap(dt);
 
                 expected.forEach((k, v) -> {
-                        String actual = resp.jsonPath().getString("data." + k);
-                        assertEquals(actual, v, "Mismatch for data." + k);
+                        String actual = resp.getString("data." + k);
+                        LazyAssert.assertEquals(actual, v, () -> "Mismatch for data." + k);
                 });
         }
 
         @Then("I receive error code {int} in response")
         public void iReceiveErrorCodeInResponse(int responseCode) {
-                Response resp = (Response) ctx.get(LAST_RESPONSE);
+                ApiResponse resp = (ApiResponse) ctx.get(LAST_RESPONSE);
                 assertNotNull(resp, "No response found in context");
 
-                assertEquals(
+                LazyAssert.assertEquals(
                         resp.getStatusCode(),
                         responseCode,
-                        "Unexpected status code. Body: " + resp.getBody().asString()
+                        () -> "Unexpected status code. Body: " + resp.getBodyAsString()
                 );
         }
 
@@ -130,19 +203,22 @@ public class ApiSteps {
 
         @Given("I create a user with following {string} {string}")
         public void iCreateUserWithFollowing(String sUsername, String sJob) {
-                Response resp = client.createUser(sUsername, sJob);
+                ApiResponse resp = client.createUser(sUsername, sJob);
                 ctx.set(LAST_RESPONSE, resp);
 
-                assertEquals(
+                LazyAssert.assertEquals(
                         resp.getStatusCode(),
                         201,
-                        "Expected 201 for create user. Body: " + resp.getBody().asString()
+                        () -> "Expected 201 for create user. Body: " + resp.getBodyAsString()
                 );
+
+                CreateUserRequestResponse created = resp.as(CreateUserRequestResponse.class);
+                LazyAssert.assertNotNull(created.getId(), () -> "Created user has no id. Body: " + resp.getBodyAsString());
         }
 
         @Then("response should contain the following data")
         public void responseShouldContainTheFollowingData(DataTable dt) {
-                Response resp = (Response) ctx.get(LAST_RESPONSE);
+                ApiResponse resp = (ApiResponse) ctx.get(LAST_RESPONSE);
                 assertNotNull(resp, "No response found in context");
 
                 // Feature format is header-only:
@@ -151,8 +227,8 @@ public class ApiSteps {
 
                 for (String field : fields) {
                         String key = field.trim();
-                        Object raw = resp.jsonPath().get(key);
-                        assertNotNull(raw, "Missing field in response: " + key + " Body: " + resp.getBody().asString());
+                        Object raw = resp.get(key);
+                        LazyAssert.assertNotNull(raw, () -> "Missing field in response: " + key + " Body: " + resp.getBodyAsString());
                 }
         }
 
@@ -175,25 +251,25 @@ public class ApiSteps {
                         password = null;
                 }
 
-                Response resp = client.login(email, password);
+                ApiResponse resp = client.login(email, password);
                 ctx.set(LAST_RESPONSE, resp);
         }
 
         @Then("^I should get a response code of (\\d+)$")
         public void iShouldGetAResponseCodeOf(int responseCode) {
-                Response resp = (Response) ctx.get(LAST_RESPONSE);
+                ApiResponse resp = (ApiResponse) ctx.get(LAST_RESPONSE);
                 assertNotNull(resp, "No response found in context");
 
-                assertEquals(
+                LazyAssert.assertEquals(
                         resp.getStatusCode(),
                         responseCode,
-                        "Unexpected status code. Body: " + resp.getBody().asString()
+                        () -> "Unexpected status code. Body: " + resp.getBodyAsString()
                 );
         }
 
         @And("^I should see the following response message:$")
         public void iShouldSeeTheFollowingResponseMessage(DataTable dt) {
-                Response resp = (Response) ctx.get(LAST_RESPONSE);
+                ApiResponse resp = (ApiResponse) ctx.get(LAST_RESPONSE);
                 assertNotNull(resp, "No response found in context");
 
                 // Your feature currently uses:
@@ -203,10 +279,10 @@ public class ApiSteps {
                 assertFalse(rows.isEmpty(), "Expected at least one row in response message table");
 
                 String expectedSnippet = rows.get(0).get(0).trim();
-                String body = resp.getBody().asString();
+                String body = resp.getBodyAsString();
 
-                assertTrue(body.contains(expectedSnippet.replace("\"", "")) || body.contains(expectedSnippet),
-                        "Expected response body to contain: " + expectedSnippet + " Body: " + body);
+                LazyAssert.assertTrue(body.contains(expectedSnippet.replace("\"", "")) || body.contains(expectedSnippet),
+                        () -> "Expected response body to contain: " + expectedSnippet + " Body: " + body);
         }
 
         // -------------------------
@@ -215,24 +291,24 @@ public class ApiSteps {
 
         @Given("^I wait for the user list to load$")
         public void iWaitForUserListToLoad() {
-                Response resp = client.listUsersDelayed(3);
+                ApiResponse resp = client.listUsersDelayed(3);
                 ctx.set(LAST_RESPONSE, resp);
 
-                assertEquals(
+                LazyAssert.assertEquals(
                         resp.getStatusCode(),
                         200,
-                        "Expected 200 for delayed users. Body: " + resp.getBody().asString()
+                        () -> "Expected 200 for delayed users. Body: " + resp.getBodyAsString()
                 );
         }
 
         @Then("I should see that every user has a unique id")
         public void iShouldSeeThatEveryUserHasAUniqueID() {
-                Response resp = (Response) ctx.get(LAST_RESPONSE);
+                ApiResponse resp = (ApiResponse) ctx.get(LAST_RESPONSE);
                 assertNotNull(resp, "No response found in context");
 
-                assertEquals(resp.getStatusCode(), 200, "Expected 200 response. Body: " + resp.getBody().asString());
+                LazyAssert.assertEquals(resp.getStatusCode(), 200, () -> "Expected 200 response. Body: " + resp.getBodyAsString());
 
-                List<Integer> ids = resp.jsonPath().getList("data.id");
+                List<Integer> ids = resp.streamArrayField("data", "id", Integer.class);
                 assertNotNull(ids, "No user ids found in response");
 
                 Set<Integer> unique = new HashSet<>(ids);
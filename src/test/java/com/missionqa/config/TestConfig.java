@@ -1,12 +1,18 @@
 package com.missionqa.config;
 
 import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Properties;
 
 public final class TestConfig {
 
     private static final Properties props = new Properties();
 
+    // Per-thread overrides (e.g. a scenario-local mock URL) so parallel scenarios don't share state
+    private static final ThreadLocal<Map<String, String>> threadOverrides =
+            ThreadLocal.withInitial(HashMap::new);
+
     static {
         try (InputStream is = TestConfig.class.getClassLoader().getResourceAsStream("config.properties")) {
             if (is == null) {
@@ -21,6 +27,12 @@ public final class TestConfig {
     private TestConfig() {}
 
     public static String getProperty(String key) {
+        // 0) scenario/thread-scoped override
+        String local = threadOverrides.get().get(key);
+        if (local != null) {
+            return local;
+        }
+
         // 1) allow override via -Dkey=value
         String sys = System.getProperty(key);
         if (sys != null && !sys.trim().isEmpty()) {
@@ -35,9 +47,66 @@ public final class TestConfig {
         return val.trim();
     }
 
+    public static String getProperty(String key, String defaultValue) {
+        String local = threadOverrides.get().get(key);
+        if (local != null) {
+            return local;
+        }
+        String sys = System.getProperty(key);
+        if (sys != null && !sys.trim().isEmpty()) {
+            return sys.trim();
+        }
+        String val = props.getProperty(key);
+        return (val == null || val.trim().isEmpty()) ? defaultValue : val.trim();
+    }
+
+    public static boolean getBoolean(String key, boolean defaultValue) {
+        return Boolean.parseBoolean(getProperty(key, String.valueOf(defaultValue)));
+    }
+
+    public static int getInt(String key, int defaultValue) {
+        String val = getProperty(key, null);
+        if (val == null) return defaultValue;
+        try {
+            return Integer.parseInt(val);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Config key " + key + " must be an integer but was: " + val, e);
+        }
+    }
+
+    public static void setThreadOverride(String key, String value) {
+        threadOverrides.get().put(key, value);
+    }
+
+    public static void clearThreadOverride(String key) {
+        threadOverrides.get().remove(key);
+    }
+
     // Optional convenience helpers
     public static String uiBaseUrl() { return getProperty("ui.baseUrl"); }
     public static String browser() { return getProperty("browser"); }
     public static String screenshotDir() { return getProperty("screenshot.dir"); }
     public static String apiBaseUrl() { return getProperty("api.baseUrl"); }
+    public static int parallelThreads() { return getInt("parallel.threads", 1); }
+    public static String artifactsDir() { return getProperty("artifacts.dir", "/app/artifacts"); }
+
+    // Sharding: -Dshard.index/-Dshard.total, else SHARD_INDEX/SHARD_TOTAL from the container env
+    public static int shardIndex() { return getInt("shard.index", envInt("SHARD_INDEX", 0)); }
+    public static int shardTotal() { return Math.max(1, getInt("shard.total", envInt("SHARD_TOTAL", 1))); }
+    public static boolean sharded() { return shardTotal() > 1; }
+
+    /**
+     * Report file suffix keeping shards that share one artifacts folder apart ("" when not sharded).
+     */
+    public static String shardSuffix() { return sharded() ? "-shard-" + shardIndex() : ""; }
+
+    private static int envInt(String name, int defaultValue) {
+        String val = System.getenv(name);
+        if (val == null || val.isBlank()) return defaultValue;
+        try {
+            return Integer.parseInt(val.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Environment variable " + name + " must be an integer but was: " + val, e);
+        }
+    }
 }
@@ -0,0 +1,188 @@
+package com.missionqa.core;
+
+import com.missionqa.config.TestConfig;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Per-session browser profile directories for local Chrome and Firefox.
+ *
+ * driver.profile.template=true launches the browser once against an empty template profile
+ * (first run done, ui.baseUrl loaded so the HTTP cache is warm), then gives every session a
+ * copy of it instead of a cold profile. Otherwise each Chrome session gets an empty profile
+ * and Firefox keeps geckodriver's own temporary one.
+ *
+ * Profiles live under driver.profile.root - by default /dev/shm when it has room, else
+ * java.io.tmpdir - and are deleted when their session quits; templates and anything left
+ * over go at JVM exit. Remote sessions never get one: the path would be on the grid node.
+ */
+final class BrowserProfiles {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BrowserProfiles.class);
+
+    private static final boolean TEMPLATE = TestConfig.getBoolean("driver.profile.template", false);
+    private static final long SHM_MIN_FREE_BYTES = 512L * 1024 * 1024;
+
+    // Lock files of a running (or crashed) browser; copying them makes the clone look in use
+    private static final Set<String> LOCKS = Set.of(
+            "SingletonLock", "SingletonSocket", "SingletonCookie", "lockfile", "lock", ".parentlock", "parent.lock");
+
+    private static final Map<WebDriver, Path> OWNED = new ConcurrentHashMap<>();
+    // One build per family; later sessions wait on the same task instead of launching another browser
+    private static final Map<String, FutureTask<Path>> TEMPLATES = new ConcurrentHashMap<>();
+
+    private BrowserProfiles() {}
+
+    /**
+     * Profile directory for a new local session of this browser family ("chrome", "firefox"),
+     * or null to let the driver manage its own. The launcher builds the template on first use.
+     */
+    static Path create(String family, Function<Path, WebDriver> launcher) {
+        if (!family.equals("chrome") && !family.equals("firefox")) return null;
+        try {
+            if (!TEMPLATE) {
+                return family.equals("chrome") ? Files.createTempDirectory(Holder.ROOT, "missionqa-chrome-") : null;
+            }
+            Path template = template(family, launcher);
+            Path clone = Files.createTempDirectory(Holder.ROOT, "missionqa-" + family + "-");
+            copy(template, clone);
+            return clone;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create a " + family + " profile under " + Holder.ROOT, e);
+        }
+    }
+
+    /** Ties a profile to the session using it, so {@link #release(WebDriver)} can delete it. */
+    static void track(WebDriver driver, Path profile) {
+        if (profile != null) OWNED.put(driver, profile);
+    }
+
+    /** Deletes the session's profile; call once the browser has quit. */
+    static void release(WebDriver driver) {
+        Path profile = OWNED.remove(driver);
+        if (profile != null) delete(profile);
+    }
+
+    static void delete(Path dir) {
+        if (dir == null || !Files.exists(dir)) return;
+        try (Stream<Path> paths = Files.walk(dir)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(p -> {
+                try {
+                    Files.deleteIfExists(p);
+                } catch (IOException ignored) {}
+            });
+        } catch (IOException | UncheckedIOException e) {
+            LOG.debug("Could not delete profile {}: {}", dir, e.toString());
+        }
+    }
+
+    // Built outside the map's lock by the first caller; a failed build is dropped so the next session retries
+    private static Path template(String family, Function<Path, WebDriver> launcher) {
+        FutureTask<Path> task = new FutureTask<>(() -> buildTemplate(family, launcher));
+        FutureTask<Path> existing = TEMPLATES.putIfAbsent(family, task);
+        if (existing == null) {
+            existing = task;
+            task.run();
+        }
+        try {
+            return existing.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the " + family + " profile template", e);
+        } catch (ExecutionException e) {
+            TEMPLATES.remove(family, existing);
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            throw new RuntimeException("Failed to build the " + family + " profile template", cause);
+        }
+    }
+
+    private static Path buildTemplate(String family, Function<Path, WebDriver> launcher) {
+        long start = System.nanoTime();
+        Path template;
+        try {
+            template = Files.createTempDirectory(Holder.ROOT, "missionqa-" + family + "-template-");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        WebDriver driver = launcher.apply(template);
+        try {
+            driver.get(TestConfig.uiBaseUrl());
+        } finally {
+            driver.quit();
+        }
+        LOG.info("profiles: {} template {} ready in {} ms", family, template, (System.nanoTime() - start) / 1_000_000);
+        return template;
+    }
+
+    private static void copy(Path from, Path to) throws IOException {
+        Files.walkFileTree(from, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                Files.createDirectories(to.resolve(from.relativize(dir).toString()));
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                // Symlinks are Chrome's singleton locks; sockets and the like aren't regular files either
+                if (attrs.isRegularFile() && !LOCKS.contains(file.getFileName().toString())) {
+                    Files.copy(file, to.resolve(from.relativize(file).toString()), StandardCopyOption.COPY_ATTRIBUTES);
+                }
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    private static Path root() {
+        String configured = TestConfig.getProperty("driver.profile.root", "").trim();
+        if (!configured.isEmpty()) return Paths.get(configured);
+
+        // tmpfs keeps profile I/O off the disk; containers often ship a 64 MB /dev/shm, hence the check
+        Path shm = Paths.get("/dev/shm");
+        try {
+            if (Files.isDirectory(shm) && Files.isWritable(shm)
+                    && Files.getFileStore(shm).getUsableSpace() >= SHM_MIN_FREE_BYTES) {
+                return shm;
+            }
+        } catch (IOException ignored) {}
+        return Paths.get(System.getProperty("java.io.tmpdir"));
+    }
+
+    // Root resolved and exit cleanup registered on first use
+    private static final class Holder {
+        static final Path ROOT = root();
+
+        static {
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                OWNED.values().forEach(BrowserProfiles::delete);
+                TEMPLATES.values().forEach(task -> {
+                    if (!task.isDone()) return;
+                    try {
+                        delete(task.get());
+                    } catch (Exception ignored) {}
+                });
+            }, "browser-profiles-cleanup"));
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package com.missionqa.core;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.missionqa.config.TestConfig;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Opt-in (driver.instrument=true) count and wall time of every WebDriver command,
+ * attributed to the page-object method that issued it and to the running scenario.
+ *
+ * Drivers from {@link DriverManager#createDriver()} are wrapped in an {@link EventFiringDecorator};
+ * the caller is the nearest page-object method on the stack (else the nearest
+ * framework frame, e.g. Hook.beforeUi), the scenario is whatever the UI hook set on the thread.
+ * Scenarios are keyed by feature path and line (as in the duration history), so outline rows and
+ * same-named scenarios stay apart; the name is kept as the row's label.
+ */
+public final class DriverCommandStats {
+
+    public static final boolean ENABLED = TestConfig.getBoolean("driver.instrument", false);
+
+    private static final String PAGES_PACKAGE = "com.missionqa.ui.pages.";
+    private static final String BASE_PAGE = PAGES_PACKAGE + "BasePage";
+    private static final String FRAMEWORK_PACKAGE = "com.missionqa.";
+    private static final String NO_SCENARIO = "(no scenario)";
+
+    // Accessors that return local helper objects, not browser round-trips
+    private static final Set<String> LOCAL_CALLS = Set.of(
+            "manage", "navigate", "switchTo", "timeouts", "window", "logs",
+            "getWrappedDriver", "getWrappedElement", "toString", "hashCode", "equals");
+
+    private static final StackWalker STACK = StackWalker.getInstance();
+
+    private static final Map<Key, Counter> COUNTERS = new ConcurrentHashMap<>();
+    private static final Map<String, String> SCENARIO_NAMES = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Frame> FRAME = ThreadLocal.withInitial(Frame::new);
+
+    private static final WebDriverListener LISTENER = new WebDriverListener() {
+        @Override
+        public void beforeAnyCall(Object target, Method method, Object[] args) {
+            if (LOCAL_CALLS.contains(method.getName())) return;
+            FRAME.get().push(System.nanoTime());
+        }
+
+        @Override
+        public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+            finish(method);
+        }
+
+        @Override
+        public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+            finish(method);
+        }
+    };
+
+    private DriverCommandStats() {}
+
+    static WebDriver decorate(WebDriver driver) {
+        return new EventFiringDecorator<>(LISTENER).decorate(driver);
+    }
+
+    /**
+     * Attributes the thread's commands to the scenario at {@code key} ("featurePath:line").
+     */
+    public static void startScenario(String key, String name) {
+        SCENARIO_NAMES.put(key, name);
+        Frame f = FRAME.get();
+        f.scenario = key;
+        f.commands = 0;
+        f.nanos = 0;
+    }
+
+    /**
+     * Ends the thread's scenario and returns its one-line summary.
+     */
+    public static String endScenario() {
+        Frame f = FRAME.get();
+        String summary = "webdriver: " + f.commands + " commands, " + f.nanos / 1_000_000 + " ms";
+        f.scenario = null;
+        return summary;
+    }
+
+    /**
+     * Writes totals by command, by calling page-object method (with its command mix) and by scenario.
+     */
+    public static void export(File out) throws IOException {
+        Map<String, Object> report = new LinkedHashMap<>();
+        long commands = COUNTERS.values().stream().mapToLong(c -> c.count.sum()).sum();
+        long nanos = COUNTERS.values().stream().mapToLong(c -> c.nanos.sum()).sum();
+        report.put("commands", commands);
+        report.put("ms", nanos / 1_000_000);
+        report.put("byCaller", group(Key::caller, true));
+        report.put("byCommand", group(Key::command, false));
+        List<Map<String, Object>> byScenario = group(Key::scenario, false);
+        byScenario.forEach(row -> row.put("label", SCENARIO_NAMES.getOrDefault((String) row.get("name"), "")));
+        report.put("byScenario", byScenario);
+
+        File dir = out.getAbsoluteFile().getParentFile();
+        if (dir != null && !dir.exists()) dir.mkdirs();
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(out, report);
+    }
+
+    private static void finish(Method method) {
+        if (LOCAL_CALLS.contains(method.getName())) return;
+
+        Frame f = FRAME.get();
+        long elapsed = System.nanoTime() - f.pop();
+        f.commands++;
+        f.nanos += elapsed;
+
+        String command = method.getDeclaringClass().getSimpleName() + "." + method.getName();
+        String scenario = f.scenario != null ? f.scenario : NO_SCENARIO;
+        Counter c = COUNTERS.computeIfAbsent(new Key(scenario, caller(), command), k -> new Counter());
+        c.count.increment();
+        c.nanos.add(elapsed);
+    }
+
+    private static String caller() {
+        return STACK.walk(frames -> {
+            String framework = null;
+            for (StackWalker.StackFrame fr : (Iterable<StackWalker.StackFrame>) frames::iterator) {
+                String cls = fr.getClassName();
+                // Skip BasePage helpers and lambdas so the concrete page method gets the credit
+                if (cls.startsWith(PAGES_PACKAGE) && !cls.equals(BASE_PAGE) && !fr.getMethodName().startsWith("lambda$")) {
+                    return simpleName(cls) + "." + fr.getMethodName();
+                }
+                if (framework == null && cls.startsWith(FRAMEWORK_PACKAGE) && !cls.startsWith(DriverCommandStats.class.getName())) {
+                    framework = simpleName(cls) + "." + fr.getMethodName();
+                }
+            }
+            return Optional.ofNullable(framework).orElse("(other)");
+        });
+    }
+
+    private static String simpleName(String className) {
+        String s = className.substring(className.lastIndexOf('.') + 1);
+        int lambda = s.indexOf('$');
+        return lambda < 0 ? s : s.substring(0, lambda);
+    }
+
+    private static List<Map<String, Object>> group(Function<Key, String> by, boolean withCommands) {
+        Map<String, Map<String, Object>> rows = new LinkedHashMap<>();
+        COUNTERS.forEach((key, c) -> {
+            Map<String, Object> row = rows.computeIfAbsent(by.apply(key), name -> {
+                Map<String, Object> r = new LinkedHashMap<>();
+                r.put("name", name);
+                r.put("commands", 0L);
+                r.put("nanos", 0L);
+                if (withCommands) r.put("byCommand", new LinkedHashMap<String, Long>());
+                return r;
+            });
+            long count = c.count.sum();
+            row.merge("commands", count, (a, b) -> (Long) a + (Long) b);
+            row.merge("nanos", c.nanos.sum(), (a, b) -> (Long) a + (Long) b);
+            if (withCommands) {
+                @SuppressWarnings("unchecked")
+                Map<String, Long> mix = (Map<String, Long>) row.get("byCommand");
+                mix.merge(key.command(), count, Long::sum);
+            }
+        });
+
+        List<Map<String, Object>> list = new ArrayList<>(rows.values());
+        for (Map<String, Object> row : list) {
+            row.put("ms", (Long) row.remove("nanos") / 1_000_000);
+        }
+        list.sort(Comparator.comparingLong(r -> -((Long) r.get("commands"))));
+        return list;
+    }
+
+    private record Key(String scenario, String caller, String command) {}
+
+    private static final class Counter {
+        final LongAdder count = new LongAdder();
+        final LongAdder nanos = new LongAdder();
+    }
+
+    // Per-thread start times (commands can nest, e.g. a listener-visible call inside another) + scenario totals
+    private static final class Frame {
+        long[] starts = new long[8];
+        int depth;
+        String scenario;
+        long commands;
+        long nanos;
+
+        void push(long t) {
+            if (depth == starts.length) starts = Arrays.copyOf(starts, depth * 2);
+            starts[depth++] = t;
+        }
+
+        long pop() {
+            return depth > 0 ? starts[--depth] : System.nanoTime();
+        }
+    }
+}
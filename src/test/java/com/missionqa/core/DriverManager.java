@@ -2,6 +2,7 @@ package com.missionqa.core;
 
 import com.missionqa.config.TestConfig;
 import io.github.bonigarcia.wdm.WebDriverManager;
+import org.openqa.selenium.PageLoadStrategy;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
 import org.openqa.selenium.edge.EdgeOptions;
@@ -12,6 +13,7 @@ import org.openqa.selenium.edge.EdgeDriver;
 import org.openqa.selenium.firefox.FirefoxDriver;
 
 import java.net.URL;
+import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -20,9 +22,98 @@ public final class DriverManager {
     private static final boolean USE_WDM =
             Boolean.parseBoolean(System.getProperty("useWdm", "false"));
 
+    private static final boolean POOL_ENABLED =
+            TestConfig.getBoolean("driver.pool.enabled", false);
+
+    private static final boolean PREWARM_ENABLED =
+            TestConfig.getBoolean("driver.prewarm.enabled", false);
+
+    private static final int POOL_SIZE = TestConfig.getInt("driver.pool.size", 1);
+
+    // Set on the first pre-warmed take, so reading the stats never starts warming by itself
+    private static volatile boolean prewarmStarted;
+
     private DriverManager() {}
 
+    /**
+     * Session for one scenario. In pooled mode (driver.pool.enabled=true) this checks a
+     * healthy session out of the pool, otherwise it launches a new browser.
+     * Always pair with {@link #releaseDriver(WebDriver)}.
+     */
+    public static WebDriver acquireDriver() {
+        return POOL_ENABLED ? PoolHolder.POOL.acquire() : newSession();
+    }
+
+    /**
+     * End of scenario. Pooled sessions are reset and parked for reuse, others are quit.
+     */
+    public static void releaseDriver(WebDriver driver) {
+        if (POOL_ENABLED) {
+            PoolHolder.POOL.release(driver);
+        } else {
+            quitDriver(driver);
+        }
+    }
+
+    /**
+     * Pre-warm statistics (sessions ready instantly vs. scenarios that had to wait), or an
+     * empty string when driver.prewarm.enabled=false or no session was requested.
+     */
+    public static String prewarmStats() {
+        return prewarmStarted ? PrewarmHolder.PREWARMER.stats() : "";
+    }
+
+    // New browser for a scenario: a pre-warmed one if enabled, else launched inline
+    private static WebDriver newSession() {
+        if (!PREWARM_ENABLED) return createDriver();
+        prewarmStarted = true;
+        return PrewarmHolder.PREWARMER.take();
+    }
+
+    // Launch + navigate to the app in the background so the hook finds it ready
+    private static WebDriver createWarmDriver() {
+        WebDriver driver = createDriver();
+        try {
+            driver.manage().window().maximize();
+            driver.get(TestConfig.uiBaseUrl());
+            return driver;
+        } catch (RuntimeException e) {
+            quitDriver(driver);
+            throw e;
+        }
+    }
+
     public static WebDriver createDriver() {
+        String browser = browser();
+        String remoteUrl = System.getenv("SELENIUM_REMOTE_URL");
+
+        // If running in Docker with Selenium container, use RemoteWebDriver
+        if (remoteUrl != null && !remoteUrl.isBlank()) {
+            return prepare(createRemoteDriver(browser, remoteUrl));
+        }
+
+        // Local sessions get their own profile directory, deleted again in quitDriver
+        Path profile = BrowserProfiles.create(family(browser), dir -> launchDriver(browser, dir));
+        try {
+            WebDriver driver = prepare(launchDriver(browser, profile));
+            BrowserProfiles.track(driver, profile);
+            return driver;
+        } catch (RuntimeException e) {
+            BrowserProfiles.delete(profile);
+            throw e;
+        }
+    }
+
+    // Network blocking hooks into the raw session; driver.instrument=true then decorates it
+    // to count/time every command per page-object method and scenario
+    private static WebDriver prepare(WebDriver session) {
+        NetworkBlocker.Session blocking = NetworkBlocker.attach(session);
+        WebDriver driver = DriverCommandStats.ENABLED ? DriverCommandStats.decorate(session) : session;
+        NetworkBlocker.track(driver, blocking);
+        return driver;
+    }
+
+    private static String browser() {
         String browser = System.getenv("BROWSER");
         if (browser == null || browser.isBlank()) {
             browser = System.getProperty("browser");
@@ -30,36 +121,35 @@ public final class DriverManager {
         if (browser == null || browser.isBlank()) {
             browser = TestConfig.getProperty("browser");
         }
-        browser = browser.toLowerCase();
-
-        String remoteUrl = System.getenv("SELENIUM_REMOTE_URL");
+        return browser.toLowerCase();
+    }
 
-        // If running in Docker with Selenium container, use RemoteWebDriver
-        if (remoteUrl != null && !remoteUrl.isBlank()) {
-            return createRemoteDriver(browser, remoteUrl);
-        }
+    private static String family(String browser) {
+        return browser.startsWith("chrome") ? "chrome" : browser.startsWith("firefox") ? "firefox" : browser;
+    }
 
-        // Local execution (Selenium Manager by default)
+    // Local execution (Selenium Manager by default)
+    private static WebDriver launchDriver(String browser, Path profile) {
         switch (browser) {
             case "chrome":
                 setupIfNeeded("chrome");
-                return new ChromeDriver(buildChromeOptions(false));
+                return new ChromeDriver(buildChromeOptions(false, profile));
 
             case "chromeheadless":
                 setupIfNeeded("chrome");
-                return new ChromeDriver(buildChromeOptions(true));
+                return new ChromeDriver(buildChromeOptions(true, profile));
 
             case "edge":
                 setupIfNeeded("edge");
-                return new EdgeDriver(new EdgeOptions());
+                return new EdgeDriver(buildEdgeOptions());
 
             case "firefox":
                 setupIfNeeded("firefox");
-                return new FirefoxDriver(buildFirefoxOptions(false));
+                return new FirefoxDriver(buildFirefoxOptions(false, profile));
 
             case "firefoxheadless":
                 setupIfNeeded("firefox");
-                return new FirefoxDriver(buildFirefoxOptions(true));
+                return new FirefoxDriver(buildFirefoxOptions(true, profile));
 
             default:
                 throw new IllegalArgumentException("Unsupported browser in config.properties: " + browser);
@@ -74,15 +164,15 @@ public final class DriverManager {
                 case "chrome":
                 case "chromeheadless":
                     boolean chromeHeadless = browser.equals("chromeheadless");
-                    return new RemoteWebDriver(gridUrl, buildChromeOptions(chromeHeadless));
+                    return new RemoteWebDriver(gridUrl, buildChromeOptions(chromeHeadless, null));
 
                 case "edge":
-                    return new RemoteWebDriver(gridUrl, new EdgeOptions());
+                    return new RemoteWebDriver(gridUrl, buildEdgeOptions());
 
                 case "firefox":
                 case "firefoxheadless":
                     boolean ffHeadless = browser.equals("firefoxheadless");
-                    return new RemoteWebDriver(gridUrl, buildFirefoxOptions(ffHeadless));
+                    return new RemoteWebDriver(gridUrl, buildFirefoxOptions(ffHeadless, null));
 
                 default:
                     throw new IllegalArgumentException("Unsupported browser in config.properties: " + browser);
@@ -112,17 +202,34 @@ public final class DriverManager {
         }
     }
 
-    private static ChromeOptions buildChromeOptions(boolean headless) {
+    // driver.pageLoadStrategy[.<family>]: normal waits for the load event, eager returns at
+    // DOMContentLoaded and leaves the rest to the page objects' readiness probes
+    private static PageLoadStrategy pageLoadStrategy(String family) {
+        String value = TestConfig.getProperty("driver.pageLoadStrategy." + family,
+                TestConfig.getProperty("driver.pageLoadStrategy", "normal"));
+        switch (value.toLowerCase()) {
+            case "normal":
+                return PageLoadStrategy.NORMAL;
+            case "eager":
+                return PageLoadStrategy.EAGER;
+            default:
+                throw new IllegalArgumentException("Unsupported driver.pageLoadStrategy for " + family + ": " + value
+                        + " (expected normal or eager)");
+        }
+    }
+
+    // profile: user-data-dir from BrowserProfiles, null to leave it to chromedriver (remote)
+    private static ChromeOptions buildChromeOptions(boolean headless, Path profile) {
         ChromeOptions options = new ChromeOptions();
+        options.setPageLoadStrategy(pageLoadStrategy("chrome"));
 
         if (headless) {
             options.addArguments("--headless=new");
         }
 
-        // Fresh profile each run
-        String tmpProfile = System.getProperty("java.io.tmpdir")
-                + "/missionqa-chrome-" + System.currentTimeMillis();
-        options.addArguments("--user-data-dir=" + tmpProfile);
+        if (profile != null) {
+            options.addArguments("--user-data-dir=" + profile);
+        }
 
         // Reduce noise + stability
         options.addArguments("--no-first-run");
@@ -149,18 +256,56 @@ public final class DriverManager {
         return options;
     }
 
-    private static FirefoxOptions buildFirefoxOptions(boolean headless) {
+    private static EdgeOptions buildEdgeOptions() {
+        EdgeOptions options = new EdgeOptions();
+        options.setPageLoadStrategy(pageLoadStrategy("edge"));
+        return options;
+    }
+
+    private static FirefoxOptions buildFirefoxOptions(boolean headless, Path profile) {
         FirefoxOptions options = new FirefoxOptions();
+        options.setPageLoadStrategy(pageLoadStrategy("firefox"));
         if (headless) {
             options.addArguments("-headless");
         }
+        // network.block.enabled: requests are intercepted over WebDriver BiDi
+        if (NetworkBlocker.ENABLED) {
+            options.enableBiDi();
+        }
+        // Used in place by geckodriver (setProfile would zip and copy it per session)
+        if (profile != null) {
+            options.addArguments("-profile", profile.toString());
+        }
         return options;
     }
 
     public static void quitDriver(WebDriver driver) {
         if (driver == null) return;
+        NetworkBlocker.release(driver);
         try {
             driver.quit();
         } catch (Exception ignored) {}
+        BrowserProfiles.release(driver);
+    }
+
+    // Lazily created so non-pooled runs never touch it
+    private static final class PoolHolder {
+        static final DriverPool POOL = new DriverPool(POOL_SIZE, DriverManager::newSession);
+
+        static {
+            Runtime.getRuntime().addShutdownHook(new Thread(POOL::shutdown, "driver-pool-shutdown"));
+        }
+    }
+
+    private static final class PrewarmHolder {
+        // A pool launches at most driver.pool.size sessions; warming more would only leave them idle
+        static final DriverPrewarmer PREWARMER = new DriverPrewarmer(
+                TestConfig.getInt("driver.prewarm.count", 1),
+                POOL_ENABLED ? POOL_SIZE : Integer.MAX_VALUE,
+                DriverManager::createWarmDriver);
+
+        static {
+            Runtime.getRuntime().addShutdownHook(new Thread(PREWARMER::shutdown, "driver-prewarm-shutdown"));
+        }
     }
 }
@@ -0,0 +1,147 @@
+package com.missionqa.core;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Bounded pool of reusable WebDriver sessions.
+ * A scenario checks a healthy session out, and on release the session is reset
+ * (windows, cookies, storage) and parked for the next scenario instead of being quit.
+ */
+final class DriverPool {
+
+    private static final Duration ACQUIRE_TIMEOUT = Duration.ofMinutes(5);
+
+    private final int maxSize;
+    private final Supplier<WebDriver> factory;
+
+    // LIFO: the most recently used session is the warmest one
+    private final BlockingDeque<WebDriver> idle = new LinkedBlockingDeque<>();
+    private final Set<WebDriver> live = ConcurrentHashMap.newKeySet();
+    private int slots;
+
+    DriverPool(int maxSize, Supplier<WebDriver> factory) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("driver.pool.size must be >= 1 but was: " + maxSize);
+        }
+        this.maxSize = maxSize;
+        this.factory = factory;
+    }
+
+    WebDriver acquire() {
+        long deadline = System.nanoTime() + ACQUIRE_TIMEOUT.toNanos();
+        while (true) {
+            WebDriver driver = idle.pollFirst();
+
+            if (driver == null) {
+                if (reserveSlot()) {
+                    return launch();
+                }
+                if (System.nanoTime() > deadline) {
+                    throw new IllegalStateException("No pooled WebDriver became available within " + ACQUIRE_TIMEOUT);
+                }
+                try {
+                    // short poll so a slot freed by an eviction is noticed too
+                    driver = idle.pollFirst(1, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while waiting for a pooled WebDriver", e);
+                }
+                if (driver == null) continue;
+            }
+
+            if (isHealthy(driver)) return driver;
+            evict(driver);
+        }
+    }
+
+    void release(WebDriver driver) {
+        if (driver == null) return;
+        if (!live.contains(driver)) {
+            // Not ours (or already evicted) - just get rid of it
+            DriverManager.quitDriver(driver);
+            return;
+        }
+        try {
+            reset(driver);
+            idle.offerFirst(driver);
+        } catch (Exception e) {
+            evict(driver);
+        }
+    }
+
+    void shutdown() {
+        List<WebDriver> all = new ArrayList<>(live);
+        live.clear();
+        idle.clear();
+        synchronized (this) {
+            slots = 0;
+        }
+        all.forEach(DriverManager::quitDriver);
+    }
+
+    private synchronized boolean reserveSlot() {
+        // counts live sessions plus the ones still launching
+        if (slots >= maxSize) return false;
+        slots++;
+        return true;
+    }
+
+    private synchronized void freeSlot() {
+        slots--;
+    }
+
+    private WebDriver launch() {
+        try {
+            WebDriver driver = factory.get();
+            live.add(driver);
+            return driver;
+        } catch (RuntimeException e) {
+            freeSlot();
+            throw e;
+        }
+    }
+
+    private void evict(WebDriver driver) {
+        if (live.remove(driver)) freeSlot();
+        DriverManager.quitDriver(driver);
+    }
+
+    private static boolean isHealthy(WebDriver driver) {
+        try {
+            driver.getWindowHandle();
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private static void reset(WebDriver driver) {
+        // Close any windows/tabs the scenario opened, keep the first one
+        Set<String> handles = driver.getWindowHandles();
+        String keep = handles.iterator().next();
+        for (String handle : handles) {
+            if (!handle.equals(keep)) {
+                driver.switchTo().window(handle).close();
+            }
+        }
+        driver.switchTo().window(keep);
+
+        // Cookies + storage are origin-bound, so clear them before leaving the app page
+        driver.manage().deleteAllCookies();
+        ((JavascriptExecutor) driver).executeScript(
+                "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}");
+
+        driver.get("about:blank");
+    }
+}
@@ -0,0 +1,144 @@
+package com.missionqa.core;
+
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Keeps the next WebDriver session(s) launching in the background so a scenario
+ * can take a ready, already-navigated browser instead of blocking on startup.
+ *
+ * At most {@code depth} sessions are warming or waiting at any time, and no more than
+ * {@code limit} are launched in total (the pool size when sessions are pooled, so no warm
+ * browser sits idle once the pool is full); sessions needed beyond that launch inline.
+ */
+final class DriverPrewarmer {
+
+    private final Supplier<WebDriver> factory;
+    private final int limit;
+    private final ExecutorService executor;
+    private final BlockingQueue<Future<WebDriver>> ready = new LinkedBlockingQueue<>();
+
+    private final AtomicLong instant = new AtomicLong();
+    private final AtomicLong waited = new AtomicLong();
+    private final AtomicLong waitedNanos = new AtomicLong();
+
+    // Sessions handed out or queued so far, capped by limit
+    private int launched;
+
+    DriverPrewarmer(int depth, int limit, Supplier<WebDriver> factory) {
+        if (depth < 1) {
+            throw new IllegalArgumentException("driver.prewarm.count must be >= 1 but was: " + depth);
+        }
+        this.factory = factory;
+        this.limit = limit;
+
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(depth, r -> {
+            Thread t = new Thread(r, "driver-prewarm-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+
+        for (int i = 0; i < depth; i++) {
+            schedule();
+        }
+    }
+
+    WebDriver take() {
+        Future<WebDriver> next = ready.poll();
+
+        if (next == null) {
+            // Queue drained by concurrent workers, or the limit is reached - launch inline
+            synchronized (this) {
+                launched++;
+            }
+            long start = System.nanoTime();
+            WebDriver driver = factory.get();
+            recordWait(start);
+            return driver;
+        }
+
+        // Refill first so the replacement starts launching while this scenario runs
+        schedule();
+
+        if (next.isDone()) {
+            instant.incrementAndGet();
+            return resolve(next);
+        }
+
+        long start = System.nanoTime();
+        WebDriver driver = resolve(next);
+        recordWait(start);
+        return driver;
+    }
+
+    String stats() {
+        long hits = instant.get();
+        long misses = waited.get();
+        long avgWaitMs = misses == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(waitedNanos.get() / misses);
+        return "driver pre-warm: " + hits + " ready instantly, " + misses + " waited (avg " + avgWaitMs + " ms)";
+    }
+
+    void shutdown() {
+        executor.shutdown();
+        try {
+            executor.awaitTermination(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        // Quit whatever was warmed but never used
+        List<Future<WebDriver>> leftovers = new ArrayList<>();
+        ready.drainTo(leftovers);
+        for (Future<WebDriver> f : leftovers) {
+            if (f.isDone() && !f.isCancelled()) {
+                try {
+                    DriverManager.quitDriver(f.get());
+                } catch (Exception ignored) {}
+            } else {
+                f.cancel(true);
+            }
+        }
+    }
+
+    private synchronized void schedule() {
+        if (launched >= limit) return;
+        try {
+            ready.add(executor.submit(factory::get));
+            launched++;
+        } catch (RejectedExecutionException ignored) {
+            // shutting down
+        }
+    }
+
+    private void recordWait(long startNanos) {
+        waited.incrementAndGet();
+        waitedNanos.addAndGet(System.nanoTime() - startNanos);
+    }
+
+    private static WebDriver resolve(Future<WebDriver> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a pre-warmed WebDriver", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            throw new RuntimeException("Failed to pre-warm WebDriver", cause);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.missionqa.core;
+
+import org.testng.Assert;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * TestNG-style assertions whose failure message is only built when the assertion fails.
+ * Use for messages that embed expensive data (e.g. a full response body).
+ */
+public final class LazyAssert {
+
+    private LazyAssert() {
+        // utility class
+    }
+
+    public static void assertEquals(Object actual, Object expected, Supplier<String> message) {
+        if (!Objects.equals(actual, expected)) {
+            Assert.assertEquals(actual, expected, message.get());
+        }
+    }
+
+    public static void assertNotNull(Object object, Supplier<String> message) {
+        if (object == null) {
+            Assert.fail(message.get());
+        }
+    }
+
+    public static void assertTrue(boolean condition, Supplier<String> message) {
+        if (!condition) {
+            Assert.fail(message.get());
+        }
+    }
+}
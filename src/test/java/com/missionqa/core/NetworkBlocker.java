@@ -0,0 +1,214 @@
+package com.missionqa.core;
+
+import com.missionqa.config.TestConfig;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.bidi.HasBiDi;
+import org.openqa.selenium.bidi.module.Network;
+import org.openqa.selenium.bidi.network.AddInterceptParameters;
+import org.openqa.selenium.bidi.network.BeforeRequestSent;
+import org.openqa.selenium.bidi.network.ContinueRequestParameters;
+import org.openqa.selenium.bidi.network.Header;
+import org.openqa.selenium.bidi.network.InterceptPhase;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.devtools.NetworkInterceptor;
+import org.openqa.selenium.remote.Augmenter;
+import org.openqa.selenium.remote.http.Filter;
+import org.openqa.selenium.remote.http.HttpResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Opt-in (network.block.enabled=true) blocking of requests the UI assertions don't need:
+ * URLs matching network.block.patterns ('*' globs) and network.block.types
+ * (image, font, stylesheet, script, media).
+ *
+ * Chromium sessions go through a CDP {@link NetworkInterceptor} (blocked requests get an
+ * empty 204), Firefox through a WebDriver BiDi intercept (blocked requests fail). Neither
+ * protocol reports the resource type before the request is sent, so it is derived from the
+ * URL extension and the Accept header. Blocked requests are counted per session and
+ * reported per scenario by the UI hook.
+ */
+public final class NetworkBlocker {
+
+    private static final Logger LOG = LoggerFactory.getLogger(NetworkBlocker.class);
+
+    public static final boolean ENABLED = TestConfig.getBoolean("network.block.enabled", false);
+
+    private static final List<Pattern> PATTERNS = list("network.block.patterns").stream()
+            .map(NetworkBlocker::glob)
+            .collect(Collectors.toList());
+    private static final List<String> TYPES = list("network.block.types");
+
+    private static final Map<String, String> TYPE_BY_EXTENSION = Map.ofEntries(
+            Map.entry("png", "image"), Map.entry("jpg", "image"), Map.entry("jpeg", "image"),
+            Map.entry("gif", "image"), Map.entry("webp", "image"), Map.entry("svg", "image"),
+            Map.entry("ico", "image"), Map.entry("avif", "image"),
+            Map.entry("woff", "font"), Map.entry("woff2", "font"), Map.entry("ttf", "font"),
+            Map.entry("otf", "font"), Map.entry("eot", "font"),
+            Map.entry("css", "stylesheet"),
+            Map.entry("js", "script"), Map.entry("mjs", "script"),
+            Map.entry("mp4", "media"), Map.entry("webm", "media"), Map.entry("mp3", "media"),
+            Map.entry("ogg", "media"));
+
+    private static final Map<WebDriver, Session> SESSIONS = new ConcurrentHashMap<>();
+
+    private NetworkBlocker() {}
+
+    /**
+     * Starts blocking on a freshly created (undecorated) session; null when disabled or the
+     * browser offers neither CDP nor BiDi. Never fails the session - it just runs unblocked.
+     */
+    static Session attach(WebDriver driver) {
+        if (!ENABLED || driver == null) return null;
+        try {
+            WebDriver session = driver instanceof HasDevTools || driver instanceof HasBiDi
+                    ? driver
+                    : new Augmenter().augment(driver); // remote: CDP/BiDi via the grid
+
+            Session blocking = new Session();
+            if (isFirefox(session) && session instanceof HasBiDi) {
+                blocking.bidi = bidi(session, blocking);
+            } else if (session instanceof HasDevTools) {
+                blocking.cdp = new NetworkInterceptor(session, (Filter) next -> req -> {
+                    String type = blockedType(req.getUri(), req.getHeader("Accept"));
+                    if (type == null) return next.execute(req);
+                    blocking.count(type);
+                    return new HttpResponse().setStatus(204);
+                });
+            } else {
+                LOG.warn("network.block.enabled=true but the session supports neither CDP nor BiDi; not blocking");
+                return null;
+            }
+            return blocking;
+        } catch (RuntimeException e) {
+            LOG.warn("Could not enable network blocking; continuing unblocked", e);
+            return null;
+        }
+    }
+
+    /** Binds the blocking to the driver handed out to scenarios (possibly a decorator). */
+    static void track(WebDriver driver, Session blocking) {
+        if (blocking != null) SESSIONS.put(driver, blocking);
+    }
+
+    /** Stops intercepting; call before the session quits. */
+    static void release(WebDriver driver) {
+        Session blocking = driver == null ? null : SESSIONS.remove(driver);
+        if (blocking != null) blocking.close();
+    }
+
+    public static void startScenario(WebDriver driver) {
+        Session blocking = SESSIONS.get(driver);
+        if (blocking != null) blocking.counts.clear();
+    }
+
+    /**
+     * The session's blocked requests since {@link #startScenario(WebDriver)}, as one line.
+     */
+    public static String endScenario(WebDriver driver) {
+        Session blocking = SESSIONS.get(driver);
+        if (blocking == null) return "network: not blocking";
+
+        Map<String, Long> byType = new TreeMap<>();
+        blocking.counts.forEach((type, n) -> byType.put(type, n.sum()));
+        long total = byType.values().stream().mapToLong(Long::longValue).sum();
+        return "network: " + total + " requests blocked " + byType;
+    }
+
+    // Resource type blocked for this request, "pattern" for a URL pattern match, null to let it through
+    static String blockedType(String url, String accept) {
+        for (Pattern p : PATTERNS) {
+            if (p.matcher(url).matches()) return "pattern";
+        }
+        String type = typeOf(url, accept);
+        return TYPES.contains(type) ? type : null;
+    }
+
+    private static String typeOf(String url, String accept) {
+        String path = url.replaceFirst("[?#].*$", "");
+        int dot = path.lastIndexOf('.');
+        if (dot > path.lastIndexOf('/')) {
+            String type = TYPE_BY_EXTENSION.get(path.substring(dot + 1).toLowerCase(Locale.ROOT));
+            if (type != null) return type;
+        }
+        if (accept != null) {
+            if (accept.startsWith("image/")) return "image";
+            if (accept.startsWith("text/css")) return "stylesheet";
+        }
+        return "other";
+    }
+
+    private static Network bidi(WebDriver driver, Session blocking) {
+        Network network = new Network(driver);
+        network.onBeforeRequestSent((BeforeRequestSent e) -> {
+            if (!e.isBlocked()) return;
+            String id = e.getRequest().getRequestId();
+            String type = blockedType(e.getRequest().getUrl(), accept(e.getRequest().getHeaders()));
+            if (type == null) {
+                network.continueRequest(new ContinueRequestParameters(id));
+            } else {
+                blocking.count(type);
+                network.failRequest(id);
+            }
+        });
+        network.addIntercept(new AddInterceptParameters(InterceptPhase.BEFORE_REQUEST_SENT));
+        return network;
+    }
+
+    private static String accept(List<Header> headers) {
+        for (Header h : headers) {
+            if (h.getName().equalsIgnoreCase("Accept")) return h.getValue().getValue();
+        }
+        return null;
+    }
+
+    private static boolean isFirefox(WebDriver driver) {
+        if (!(driver instanceof HasCapabilities)) return false;
+        Capabilities caps = ((HasCapabilities) driver).getCapabilities();
+        return "firefox".equalsIgnoreCase(caps.getBrowserName());
+    }
+
+    private static List<String> list(String key) {
+        return Arrays.stream(TestConfig.getProperty(key, "").split(","))
+                .map(String::trim)
+                .filter(s -> !s.isEmpty())
+                .collect(Collectors.toList());
+    }
+
+    private static Pattern glob(String glob) {
+        return Pattern.compile(Arrays.stream(glob.split("\\*", -1))
+                .map(Pattern::quote)
+                .collect(Collectors.joining(".*")));
+    }
+
+    static final class Session {
+        final Map<String, LongAdder> counts = new ConcurrentHashMap<>();
+        NetworkInterceptor cdp;
+        Network bidi;
+
+        void count(String type) {
+            counts.computeIfAbsent(type, t -> new LongAdder()).increment();
+        }
+
+        void close() {
+            try {
+                if (cdp != null) cdp.close();
+                if (bidi != null) bidi.close();
+            } catch (RuntimeException ignored) {
+                // session may already be gone
+            }
+        }
+    }
+}
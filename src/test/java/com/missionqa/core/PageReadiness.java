@@ -0,0 +1,95 @@
+package com.missionqa.core;
+
+import com.missionqa.config.TestConfig;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Per-scenario record of page readiness probes (see BasePage#awaitReady) against the
+ * browser's own load timing, to show what driver.pageLoadStrategy=eager buys:
+ * "LoginPage 40 ms (ready at 420 ms, load event 1310 ms)" - both measured from the
+ * document's navigation start.
+ *
+ * The load event often hasn't fired yet when an eager probe succeeds; it is filled in from the
+ * same document at a later probe or at scenario end, else reported as pending (the scenario
+ * navigated away first). Off by default (page.readiness.report): each probe costs a script call.
+ */
+public final class PageReadiness {
+
+    public static final boolean REPORT = TestConfig.getBoolean("page.readiness.report", false);
+
+    // [now, loadEventEnd, timeOrigin] of the current document, milliseconds
+    private static final String TIMING_SCRIPT =
+            "var n = performance.getEntriesByType('navigation')[0];"
+                    + "return [performance.now(), n ? n.loadEventEnd : 0, performance.timeOrigin];";
+
+    private static final ThreadLocal<List<Probe>> PROBES = ThreadLocal.withInitial(ArrayList::new);
+
+    private PageReadiness() {}
+
+    public static void record(WebDriver driver, String page, long waitNanos) {
+        if (!REPORT) return;
+        double[] timing = timing(driver);
+        Probe probe = new Probe(page, waitNanos / 1_000_000, timing == null ? -1 : timing[0],
+                timing == null ? 0 : timing[2]);
+        PROBES.get().add(probe);
+        resolve(timing);
+    }
+
+    /**
+     * Clears the thread's probes and returns them as one line ("" when none were recorded).
+     */
+    public static String endScenario(WebDriver driver) {
+        List<Probe> probes = PROBES.get();
+        if (probes.isEmpty()) return "";
+        if (driver != null) resolve(timing(driver));
+
+        String summary = probes.stream().map(Probe::toString).collect(Collectors.joining("; ", "readiness: ", ""));
+        probes.clear();
+        return summary;
+    }
+
+    // Fill in the load event for probes taken on the document that is still loaded
+    private static void resolve(double[] timing) {
+        if (timing == null || timing[1] <= 0) return;
+        for (Probe p : PROBES.get()) {
+            if (p.loadEventMs < 0 && p.timeOrigin == timing[2]) p.loadEventMs = timing[1];
+        }
+    }
+
+    private static double[] timing(WebDriver driver) {
+        try {
+            List<?> values = (List<?>) ((JavascriptExecutor) driver).executeScript(TIMING_SCRIPT);
+            double[] out = new double[values.size()];
+            for (int i = 0; i < out.length; i++) out[i] = ((Number) values.get(i)).doubleValue();
+            return out;
+        } catch (RuntimeException e) {
+            return null; // timing is a report, never a reason to fail a step
+        }
+    }
+
+    private static final class Probe {
+        final String page;
+        final long waitMs;
+        final double readyAtMs;
+        final double timeOrigin;
+        double loadEventMs = -1;
+
+        Probe(String page, long waitMs, double readyAtMs, double timeOrigin) {
+            this.page = page;
+            this.waitMs = waitMs;
+            this.readyAtMs = readyAtMs;
+            this.timeOrigin = timeOrigin;
+        }
+
+        @Override
+        public String toString() {
+            String load = loadEventMs < 0 ? "load event pending" : "load event " + Math.round(loadEventMs) + " ms";
+            return page + " " + waitMs + " ms (ready at " + Math.round(readyAtMs) + " ms, " + load + ")";
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.missionqa.core;
+
+import org.openqa.selenium.By;
+
+import java.util.List;
+
+/**
+ * Locators for in-page scripts, which only know CSS and XPath: [strategy, value] with the
+ * other W3C strategies mapped onto CSS.
+ */
+public final class ScriptLocator {
+
+    private ScriptLocator() {
+        // utility class
+    }
+
+    /**
+     * ["css" | "xpath", value], or null for strategies that have no CSS equivalent (link text).
+     */
+    public static List<String> of(By locator) {
+        if (!(locator instanceof By.Remotable)) return null;
+        By.Remotable.Parameters p = ((By.Remotable) locator).getRemoteParameters();
+        String value = String.valueOf(p.value());
+        switch (p.using()) {
+            case "css selector":
+                return List.of("css", value);
+            case "xpath":
+                return List.of("xpath", value);
+            case "id":
+                return List.of("css", "[id=\"" + cssQuote(value) + "\"]");
+            case "name":
+                return List.of("css", "[name=\"" + cssQuote(value) + "\"]");
+            case "class name":
+                return List.of("css", "[class~=\"" + cssQuote(value) + "\"]");
+            case "tag name":
+                return List.of("css", value);
+            default:
+                return null;
+        }
+    }
+
+    private static String cssQuote(String s) {
+        return s.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+}
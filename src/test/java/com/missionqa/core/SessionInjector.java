@@ -1,13 +1,102 @@
 package com.missionqa.core;
 
+import org.openqa.selenium.Cookie;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
 
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 
 public class SessionInjector {
+
+    private static final String READ_STORAGE =
+            "var dump = function (s) { var o = {}; for (var i = 0; i < s.length; i++) { var k = s.key(i); o[k] = s.getItem(k); } return o; };"
+                    + "return { local: dump(window.localStorage), session: dump(window.sessionStorage) };";
+
+    // Authenticated sessions captured per worker thread, keyed by user + password
+    private static final ThreadLocal<Map<String, Snapshot>> CACHE = ThreadLocal.withInitial(HashMap::new);
+
     public static void setLocalStorage(WebDriver driver, Map<String, String> kv) {
         JavascriptExecutor js = (JavascriptExecutor) driver;
         kv.forEach((k, v) -> js.executeScript("window.localStorage.setItem(arguments[0], arguments[1]);", k, v));
     }
+
+    public static void setSessionStorage(WebDriver driver, Map<String, String> kv) {
+        JavascriptExecutor js = (JavascriptExecutor) driver;
+        kv.forEach((k, v) -> js.executeScript("window.sessionStorage.setItem(arguments[0], arguments[1]);", k, v));
+    }
+
+    /**
+     * Captures cookies + local/session storage of the current origin.
+     */
+    @SuppressWarnings("unchecked")
+    public static Snapshot capture(WebDriver driver) {
+        Map<String, Object> storage = (Map<String, Object>) ((JavascriptExecutor) driver).executeScript(READ_STORAGE);
+        return new Snapshot(
+                new HashSet<>(driver.manage().getCookies()),
+                toStringMap((Map<String, Object>) storage.get("local")),
+                toStringMap((Map<String, Object>) storage.get("session")));
+    }
+
+    /**
+     * Replays a snapshot into the current origin. The driver must already be on the app's domain.
+     */
+    public static void inject(WebDriver driver, Snapshot snapshot) {
+        for (Cookie c : snapshot.cookies()) {
+            driver.manage().addCookie(c);
+        }
+        setLocalStorage(driver, snapshot.localStorage());
+        setSessionStorage(driver, snapshot.sessionStorage());
+    }
+
+    public static Snapshot cached(String user, String password) {
+        Snapshot s = CACHE.get().get(key(user, password));
+        if (s != null && s.isExpired()) {
+            forget(user, password);
+            return null;
+        }
+        return s;
+    }
+
+    public static void remember(String user, String password, Snapshot snapshot) {
+        CACHE.get().put(key(user, password), snapshot);
+    }
+
+    public static void forget(String user, String password) {
+        CACHE.get().remove(key(user, password));
+    }
+
+    private static String key(String user, String password) {
+        return user + '\u0000' + password;
+    }
+
+    private static Map<String, String> toStringMap(Map<String, Object> raw) {
+        if (raw == null) return Collections.emptyMap();
+        Map<String, String> out = new HashMap<>();
+        raw.forEach((k, v) -> {
+            if (v != null) out.put(k, String.valueOf(v));
+        });
+        return out;
+    }
+
+    /**
+     * Cookies + storage of an authenticated session.
+     */
+    public record Snapshot(Set<Cookie> cookies, Map<String, String> localStorage, Map<String, String> sessionStorage) {
+
+        public Snapshot {
+            cookies = Set.copyOf(cookies);
+            localStorage = Map.copyOf(localStorage);
+            sessionStorage = Map.copyOf(sessionStorage);
+        }
+
+        boolean isExpired() {
+            Date now = new Date();
+            return cookies.stream().anyMatch(c -> c.getExpiry() != null && c.getExpiry().before(now));
+        }
+    }
 }
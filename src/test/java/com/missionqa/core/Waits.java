@@ -1,32 +1,188 @@
 package com.missionqa.core;
 
+import com.missionqa.config.TestConfig;
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedCondition;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 
 import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
 
+/**
+ * Explicit waits and fast presence probes.
+ *
+ * wait.engine=observer runs visible/clickable inside the page: one executeAsyncScript call
+ * checks the element, then re-checks on every DOM mutation (plus a short in-page interval
+ * for style/layout changes a MutationObserver can't see) and returns the moment the condition
+ * holds. Locators without a CSS/XPath form, and waits interrupted by a navigation, fall back to
+ * the polling WebDriverWait used by wait.engine=polling (the default).
+ */
 public class Waits {
 
+    // wait.implicit.seconds=0 turns off implicit waits so explicit waits and probes are exact
+    private static final Duration IMPLICIT_WAIT = Duration.ofSeconds(TestConfig.getInt("wait.implicit.seconds", 20));
+    private static final Duration EXPLICIT_WAIT = Duration.ofSeconds(TestConfig.getInt("wait.explicit.seconds", 10));
+    private static final Duration PROBE_WAIT = Duration.ofMillis(TestConfig.getInt("wait.probe.millis", 500));
+    private static final Duration PROBE_POLL = Duration.ofMillis(50);
+    private static final boolean OBSERVER = engine().equals("observer");
+
+    // args: [strategy, value], clickable, timeoutMs, callback. Resolves with the element or null on timeout
+    private static final String OBSERVE_SCRIPT =
+            "var loc = arguments[0], clickable = arguments[1], timeout = arguments[2], done = arguments[3];"
+                    + "var find = function () {"
+                    + "  if (loc[0] === 'xpath') {"
+                    + "    return document.evaluate(loc[1], document, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;"
+                    + "  }"
+                    + "  return document.querySelector(loc[1]);"
+                    + "};"
+                    + "var ready = function () {"
+                    + "  var el = find();"
+                    + "  if (!el || el.getClientRects().length === 0) return null;"
+                    + "  var style = window.getComputedStyle(el);"
+                    + "  if (style.visibility === 'hidden' || style.opacity === '0') return null;"
+                    + "  if (clickable && el.disabled) return null;"
+                    + "  return el;"
+                    + "};"
+                    + "var el = ready();"
+                    + "if (el) { done(el); return; }"
+                    + "var finished = false, observer, interval, timer;"
+                    + "var finish = function (result) {"
+                    + "  if (finished) return;"
+                    + "  finished = true;"
+                    + "  observer.disconnect(); clearInterval(interval); clearTimeout(timer);"
+                    + "  done(result);"
+                    + "};"
+                    + "var check = function () { var e = ready(); if (e) finish(e); };"
+                    + "observer = new MutationObserver(check);"
+                    + "observer.observe(document, {childList: true, subtree: true, attributes: true, characterData: true});"
+                    + "interval = setInterval(check, 100);"
+                    + "timer = setTimeout(function () { finish(null); }, timeout);";
+
     private final WebDriver driver;
     private final WebDriverWait wait;
 
     public Waits(WebDriver driver) {
         this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+        this.wait = new WebDriverWait(driver, EXPLICIT_WAIT);
+    }
+
+    public static Duration implicitWait() {
+        return IMPLICIT_WAIT;
     }
 
     public WebElement visible(By locator) {
-        return wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
+        ExpectedCondition<WebElement> condition = ExpectedConditions.visibilityOfElementLocated(locator);
+        return OBSERVER ? observe(locator, false, condition) : wait.until(condition);
     }
 
     public WebElement clickable(By locator) {
-        return wait.until(ExpectedConditions.elementToBeClickable(locator));
+        ExpectedCondition<WebElement> condition = ExpectedConditions.elementToBeClickable(locator);
+        return OBSERVER ? observe(locator, true, condition) : wait.until(condition);
     }
 
     public boolean urlContains(String partial) {
         return wait.until(ExpectedConditions.urlContains(partial));
     }
+
+    /**
+     * Waits for the URL to contain {@code partial} or for {@code failure} (e.g. a validation
+     * error) to appear, whichever comes first. True only if the URL matched; false as soon as
+     * the failure element shows up, or at the timeout.
+     */
+    public boolean urlContainsUnless(String partial, By failure) {
+        return withoutImplicitWait(() -> {
+            try {
+                wait.until(d -> d.getCurrentUrl().contains(partial) || !d.findElements(failure).isEmpty());
+            } catch (TimeoutException e) {
+                return false;
+            }
+            return driver.getCurrentUrl().contains(partial);
+        });
+    }
+
+    private WebElement observe(By locator, boolean clickable, ExpectedCondition<WebElement> condition) {
+        List<String> script = ScriptLocator.of(locator);
+        if (script == null) return wait.until(condition);
+
+        Object found;
+        try {
+            found = ((JavascriptExecutor) driver).executeAsyncScript(
+                    OBSERVE_SCRIPT, script, clickable, EXPLICIT_WAIT.toMillis());
+        } catch (ScriptTimeoutException e) {
+            found = null; // script timeout shorter than wait.explicit.seconds
+        } catch (WebDriverException e) {
+            // Page unloaded mid-wait (navigation) or scripts unavailable - poll instead
+            return wait.until(condition);
+        }
+        if (found instanceof WebElement) return (WebElement) found;
+
+        // The in-page check is an approximation of isDisplayed; let Selenium's own check have the last word
+        WebElement el = withoutImplicitWait(() -> condition.apply(driver));
+        if (el != null) return el;
+        throw new TimeoutException("Expected condition failed: waiting for " + condition
+                + " (tried for " + EXPLICIT_WAIT.toSeconds() + " second(s) with a DOM observer)");
+    }
+
+    private static String engine() {
+        String engine = TestConfig.getProperty("wait.engine", "polling").toLowerCase();
+        if (!engine.equals("polling") && !engine.equals("observer")) {
+            throw new IllegalArgumentException("Unsupported wait.engine: " + engine + " (expected polling or observer)");
+        }
+        return engine;
+    }
+
+    // -----------------------------
+    // Fast checks for optional elements (never pay the implicit wait)
+    // -----------------------------
+
+    /**
+     * Single lookup, no waiting: the element if it is in the DOM right now.
+     */
+    public Optional<WebElement> optional(By locator) {
+        List<WebElement> found = withoutImplicitWait(() -> driver.findElements(locator));
+        return found.isEmpty() ? Optional.empty() : Optional.of(found.get(0));
+    }
+
+    /**
+     * Single lookup, no waiting: true if the element is not in the DOM right now.
+     */
+    public boolean isAbsent(By locator) {
+        return optional(locator).isEmpty();
+    }
+
+    /**
+     * True if the element shows up in the DOM within wait.probe.millis. Waits the full probe
+     * when it never appears, so use it only right after an action that should render it
+     * (e.g. the cart badge after adding items); use {@link #isAbsent(By)} otherwise.
+     */
+    public boolean isPresent(By locator) {
+        return withoutImplicitWait(() -> {
+            try {
+                return new WebDriverWait(driver, PROBE_WAIT, PROBE_POLL).until(d -> !d.findElements(locator).isEmpty());
+            } catch (TimeoutException e) {
+                return false;
+            }
+        });
+    }
+
+    private <T> T withoutImplicitWait(Supplier<T> action) {
+        if (IMPLICIT_WAIT.isZero()) {
+            return action.get();
+        }
+        driver.manage().timeouts().implicitlyWait(Duration.ZERO);
+        try {
+            return action.get();
+        } finally {
+            driver.manage().timeouts().implicitlyWait(IMPLICIT_WAIT);
+        }
+    }
 }
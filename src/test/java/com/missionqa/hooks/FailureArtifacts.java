@@ -0,0 +1,192 @@
+package com.missionqa.hooks;
+
+import com.missionqa.config.TestConfig;
+import io.cucumber.java.Scenario;
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.logging.LogEntry;
+import org.openqa.selenium.logging.LogType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Failure evidence for UI scenarios: screenshot, DOM and browser console.
+ *
+ * Reading them is synchronous - up to three WebDriver round trips on the scenario thread, while
+ * the session is still alive - and they are attached to the Cucumber scenario right away. Only
+ * writing the files to {@code screenshot.dir} (DOM and console gzipped) moves to a background
+ * writer ({@code failure.artifacts.threads}, 0 = write on the scenario thread).
+ *
+ * The writer queue is bounded ({@code failure.artifacts.queue}); when it is full the scenario
+ * thread writes its own files (CallerRunsPolicy), so a burst of failures slows teardown down
+ * instead of piling up screenshots in memory. {@link #flush()} waits for pending writes.
+ */
+final class FailureArtifacts {
+
+    private static final Logger LOG = LoggerFactory.getLogger(FailureArtifacts.class);
+
+    // Clamped here so the writer can always start
+    private static final int WRITER_THREADS = Math.max(0, TestConfig.getInt("failure.artifacts.threads", 1));
+    private static final int WRITER_QUEUE = Math.max(1, TestConfig.getInt("failure.artifacts.queue", 8));
+
+    // Browsers that expose the "browser" log type
+    private static final Set<String> CONSOLE_LOG_BROWSERS = Set.of("chrome", "MicrosoftEdge", "msedge");
+
+    // Set once the writer exists, so flush() doesn't start one; flushed at most once (@AfterAll or exit)
+    private static volatile boolean writerStarted;
+    private static final AtomicBoolean FLUSHED = new AtomicBoolean();
+    // Keeps same-millisecond failures (parallel workers) from overwriting each other
+    private static final AtomicInteger SEQ = new AtomicInteger();
+
+    private FailureArtifacts() {
+        // utility class
+    }
+
+    /**
+     * Never throws: evidence is best effort and must not keep the hook from releasing the session.
+     */
+    static void capture(WebDriver driver, Scenario scenario) {
+        try {
+            captureAndWrite(driver, scenario);
+        } catch (RuntimeException e) {
+            LOG.warn("Could not capture failure artifacts for '{}'", scenario.getName(), e);
+        }
+    }
+
+    private static void captureAndWrite(WebDriver driver, Scenario scenario) {
+        String base = scenario.getName().replaceAll("[^a-zA-Z0-9-_]", "_")
+                + "_" + TestConfig.getProperty("browser") + "_" + System.currentTimeMillis() + "_" + SEQ.incrementAndGet();
+
+        // Everything the browser can give us, before the session is released (on this thread)
+        byte[] png = driver instanceof TakesScreenshot
+                ? grab("screenshot", () -> ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES))
+                : null;
+        String dom = grab("DOM", driver::getPageSource);
+        String console = hasConsoleLog(driver) ? grab("console log", () -> consoleLog(driver)) : null;
+
+        if (png != null) scenario.attach(png, "image/png", base + ".png");
+        if (dom != null) scenario.attach(dom, "text/html", base + ".html");
+        if (console != null) scenario.attach(console, "text/plain", base + ".console.log");
+
+        // Only the file writes leave the scenario thread
+        File dir = new File(TestConfig.screenshotDir());
+        Runnable write = () -> write(dir, base, png, dom, console);
+        if (WRITER_THREADS == 0) {
+            write.run();
+        } else {
+            Writer.EXECUTOR.execute(write);
+        }
+    }
+
+    /**
+     * Waits for queued artifacts to reach disk; later captures are written on the caller.
+     */
+    static void flush() {
+        if (!writerStarted || !FLUSHED.compareAndSet(false, true)) return;
+        ThreadPoolExecutor executor = Writer.EXECUTOR;
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(60, TimeUnit.SECONDS)) {
+                LOG.warn("Failure artifacts still being written after 60s ({} queued)", executor.getQueue().size());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        LOG.info("Failure artifacts: {} written, {} on the scenario thread (queue full)",
+                Writer.WRITTEN.get(), Writer.INLINE.get());
+    }
+
+    // Chromium exposes the browser log; others (Firefox) just don't get the file
+    private static boolean hasConsoleLog(WebDriver driver) {
+        return driver instanceof HasCapabilities
+                && CONSOLE_LOG_BROWSERS.contains(((HasCapabilities) driver).getCapabilities().getBrowserName());
+    }
+
+    private static String consoleLog(WebDriver driver) {
+        StringBuilder sb = new StringBuilder();
+        for (LogEntry entry : driver.manage().logs().get(LogType.BROWSER)) {
+            sb.append(Instant.ofEpochMilli(entry.getTimestamp())).append(' ')
+                    .append(entry.getLevel()).append(' ')
+                    .append(entry.getMessage()).append('\n');
+        }
+        return sb.toString();
+    }
+
+    private static <T> T grab(String what, Grab<T> grab) {
+        try {
+            return grab.get();
+        } catch (Exception e) {
+            LOG.debug("No {} for failure artifacts: {}", what, e.toString());
+            return null;
+        }
+    }
+
+    private static void write(File dir, String base, byte[] png, String dom, String console) {
+        try {
+            Files.createDirectories(dir.toPath());
+            if (png != null) Files.write(new File(dir, base + ".png").toPath(), png); // PNG is already compressed
+            if (dom != null) gzip(new File(dir, base + ".html.gz"), dom);
+            if (console != null) gzip(new File(dir, base + ".console.log.gz"), console);
+            Writer.WRITTEN.incrementAndGet();
+        } catch (IOException e) {
+            LOG.warn("Could not write failure artifacts {} to {}", base, dir, e);
+        }
+    }
+
+    private static void gzip(File file, String text) throws IOException {
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(file.toPath()))) {
+            out.write(text.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    @FunctionalInterface
+    private interface Grab<T> {
+        T get() throws Exception;
+    }
+
+    // Lazily created so passing runs never start the writer
+    private static final class Writer {
+        static final AtomicLong WRITTEN = new AtomicLong();
+        static final AtomicLong INLINE = new AtomicLong();
+
+        static final ThreadPoolExecutor EXECUTOR = newExecutor();
+
+        private static ThreadPoolExecutor newExecutor() {
+            AtomicInteger seq = new AtomicInteger();
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                    WRITER_THREADS, WRITER_THREADS,
+                    0, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(WRITER_QUEUE),
+                    r -> {
+                        Thread t = new Thread(r, "failure-artifacts-" + seq.incrementAndGet());
+                        t.setDaemon(true);
+                        return t;
+                    },
+                    (task, pool) -> {
+                        // Backpressure: a full queue (or a flushed writer) runs the write right here
+                        INLINE.incrementAndGet();
+                        task.run();
+                    });
+            writerStarted = true;
+            Runtime.getRuntime().addShutdownHook(new Thread(FailureArtifacts::flush, "failure-artifacts-flush"));
+            return executor;
+        }
+    }
+}
@@ -1,36 +1,55 @@
 package com.missionqa.hooks;
 
+import com.missionqa.api.client.ReqResClient;
 import com.missionqa.config.TestConfig;
+import com.missionqa.core.DriverCommandStats;
 import com.missionqa.core.DriverManager;
 import com.missionqa.core.DriverProvider;
+import com.missionqa.core.NetworkBlocker;
+import com.missionqa.core.PageReadiness;
+import com.missionqa.core.Waits;
+import com.missionqa.reporting.DurationHistory;
 import io.cucumber.java.After;
+import io.cucumber.java.AfterAll;
 import io.cucumber.java.Before;
 import io.cucumber.java.Scenario;
-import org.apache.commons.io.FileUtils;
-import org.openqa.selenium.OutputType;
-import org.openqa.selenium.TakesScreenshot;
 import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.time.Duration;
 
 public class Hook {
 
+    private static final Logger LOG = LoggerFactory.getLogger(Hook.class);
+
     private static final int WAIT_SEC = 20;
 
     @Before("@ui")
-    public void beforeUi() {
-        WebDriver driver = DriverManager.createDriver();
+    public void beforeUi(Scenario scenario) {
+        if (DriverCommandStats.ENABLED) {
+            DriverCommandStats.startScenario(DurationHistory.key(scenario.getUri(), scenario.getLine()), scenario.getName());
+        }
+
+        WebDriver driver = DriverManager.acquireDriver();
         DriverProvider.set(driver);
+        if (NetworkBlocker.ENABLED) {
+            NetworkBlocker.startScenario(driver);
+        }
 
         driver.manage().deleteAllCookies();
         driver.manage().window().maximize();
 
         driver.manage().timeouts().pageLoadTimeout(Duration.ofSeconds(WAIT_SEC));
-        driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(WAIT_SEC));
+        driver.manage().timeouts().implicitlyWait(Waits.implicitWait());
         // driver.manage().timeouts().scriptTimeout(Duration.ofSeconds(WAIT_SEC)); // remove for baseline stability
 
-        driver.get(TestConfig.getProperty("ui.baseUrl"));
+        // Pre-warmed sessions are already sitting on the app
+        String baseUrl = TestConfig.getProperty("ui.baseUrl");
+        if (!driver.getCurrentUrl().startsWith(baseUrl)) {
+            driver.get(baseUrl);
+        }
     }
 
     @After("@ui")
@@ -40,24 +59,57 @@ public class Hook {
             driver = DriverProvider.get();
         } catch (Exception ignored) {}
 
-        if (driver != null && scenario != null && scenario.isFailed()) {
-            try {
-                String browser = TestConfig.getProperty("browser");
-                String screenshotDir = TestConfig.getProperty("screenshot.dir");
-
-                File dir = new File(screenshotDir);
-                if (!dir.exists()) dir.mkdirs();
+        try {
+            if (driver != null && scenario != null && scenario.isFailed()) {
+                // Grabbed now, written to screenshot.dir in the background
+                FailureArtifacts.capture(driver, scenario);
+            }
+
+            if (NetworkBlocker.ENABLED && driver != null && scenario != null) {
+                scenario.log(NetworkBlocker.endScenario(driver));
+            }
+            if (PageReadiness.REPORT && scenario != null) {
+                String readiness = PageReadiness.endScenario(driver);
+                if (!readiness.isEmpty()) scenario.log(readiness);
+            }
+            // Before the release, so the pool's reset commands aren't counted against the scenario
+            if (DriverCommandStats.ENABLED && scenario != null) {
+                scenario.log(DriverCommandStats.endScenario());
+            }
+        } finally {
+            // Reporting must never leak the session
+            DriverManager.releaseDriver(driver);
+            DriverProvider.remove();
+        }
+    }
 
-                String safeName = scenario.getName().replaceAll("[^a-zA-Z0-9-_]", "_");
-                String fileName = safeName + "_" + browser + "_" + System.currentTimeMillis() + ".png";
+    @AfterAll
+    public static void flushFailureArtifacts() {
+        FailureArtifacts.flush();
+    }
 
-                File src = ((TakesScreenshot) driver).getScreenshotAs(OutputType.FILE);
-                FileUtils.copyFile(src, new File(dir, fileName));
-            } catch (Exception ignored) {}
+    @AfterAll
+    public static void exportDriverCommandStats() {
+        if (!DriverCommandStats.ENABLED) return;
+        try {
+            DriverCommandStats.export(new File(TestConfig.artifactsDir(), "webdriver-commands" + TestConfig.shardSuffix() + ".json"));
+        } catch (Exception e) {
+            LOG.warn("Could not write WebDriver command stats", e);
         }
+    }
+
+    // Browser sessions ready instantly vs. waited for (driver.prewarm.enabled)
+    @AfterAll
+    public static void logPrewarmStats() {
+        String stats = DriverManager.prewarmStats();
+        if (!stats.isEmpty()) LOG.info(stats);
+    }
 
-        DriverManager.quitDriver(driver);
-        DriverProvider.remove();
+    // Keep-alive reuse over the whole run (ReqResClient's shared connection pool)
+    @AfterAll
+    public static void logHttpPoolStats() {
+        String stats = ReqResClient.connectionStats();
+        if (!stats.isEmpty()) LOG.info(stats);
     }
 
     @Before("@api")
@@ -0,0 +1,138 @@
+package com.missionqa.hooks;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.common.ClasspathFileSource;
+import com.github.tomakehurst.wiremock.common.Json;
+import com.github.tomakehurst.wiremock.common.TextFile;
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+import com.github.tomakehurst.wiremock.standalone.MappingsSource;
+import com.github.tomakehurst.wiremock.stubbing.StubMapping;
+import com.github.tomakehurst.wiremock.stubbing.StubMappingCollection;
+import com.github.tomakehurst.wiremock.stubbing.StubMappings;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Mock stubs kept as files on the test classpath, in WireMock's layout:
+ *
+ *   wiremock/mappings/<group>/*.json   stub mappings (single mapping or {"mappings": [...]})
+ *   wiremock/__files/...               response bodies, referenced with "bodyFileName"
+ *
+ * A scenario tagged {@code @mock:<group>} gets only that group's stubs; an untagged one gets
+ * every group. Mappings directly under wiremock/mappings are common and always loaded.
+ * Nothing is read until a group is first requested, and each file is read once per JVM.
+ */
+public final class StubCatalogue {
+
+    public static final String TAG_PREFIX = "@mock:";
+
+    private static final String ROOT = "wiremock";
+    private static final String COMMON = "";
+
+    // group -> mapping JSON, read on first use of the group
+    private static final Map<String, List<String>> MAPPINGS = new ConcurrentHashMap<>();
+
+    // Mappings are loaded per group on demand, never all at server start
+    private static final MappingsSource NO_AUTOLOAD = new MappingsSource() {
+        @Override public void loadMappingsInto(StubMappings stubMappings) {}
+        @Override public void save(List<StubMapping> stubMappings) {}
+        @Override public void save(StubMapping stubMapping) {}
+        @Override public void remove(StubMapping stubMapping) {}
+        @Override public void removeAll() {}
+    };
+
+    private StubCatalogue() {
+        // utility class
+    }
+
+    /**
+     * Serves bodies from the catalogue's __files and disables WireMock's load-everything-at-start.
+     */
+    public static WireMockConfiguration configure(WireMockConfiguration options) {
+        return options.usingFilesUnderClasspath(ROOT).mappingSource(NO_AUTOLOAD);
+    }
+
+    public static Set<String> groups() {
+        Set<String> groups = new LinkedHashSet<>(files().keySet());
+        groups.remove(COMMON);
+        return groups;
+    }
+
+    /**
+     * Groups a scenario with these tags needs: the common stubs plus every {@code @mock:} group,
+     * or all groups when the scenario names none.
+     */
+    public static Set<String> groupsFor(Collection<String> tags) {
+        Set<String> wanted = new LinkedHashSet<>();
+        for (String tag : tags) {
+            if (!tag.startsWith(TAG_PREFIX)) continue;
+
+            String group = tag.substring(TAG_PREFIX.length());
+            if (!files().containsKey(group)) {
+                throw new IllegalArgumentException("Unknown mock group '" + group + "' (tag " + tag + "). Known: " + groups());
+            }
+            wanted.add(group);
+        }
+        if (wanted.isEmpty()) {
+            wanted.addAll(groups());
+        }
+
+        Set<String> result = new LinkedHashSet<>();
+        if (files().containsKey(COMMON)) result.add(COMMON);
+        result.addAll(wanted);
+        return result;
+    }
+
+    public static void load(WireMockServer server, String group) {
+        for (String json : mappings(group)) {
+            // Parsed per server: StubMapping instances are mutable and must not be shared
+            for (StubMapping mapping : Json.read(json, StubMappingCollection.class).getMappingOrMappings()) {
+                server.addStubMapping(mapping);
+            }
+        }
+    }
+
+    private static List<String> mappings(String group) {
+        return MAPPINGS.computeIfAbsent(group, g -> {
+            List<String> json = new ArrayList<>();
+            for (TextFile file : files().getOrDefault(g, List.of())) {
+                json.add(file.readContentsAsString());
+            }
+            return json;
+        });
+    }
+
+    private static Map<String, List<TextFile>> files() {
+        return Listing.FILES;
+    }
+
+    // group -> mapping files, listed on first use
+    private static final class Listing {
+        static final Map<String, List<TextFile>> FILES = listFiles();
+    }
+
+    private static Map<String, List<TextFile>> listFiles() {
+        ClasspathFileSource mappingsDir = new ClasspathFileSource(ROOT + "/mappings");
+        Map<String, List<TextFile>> byGroup = new TreeMap<>();
+        if (!mappingsDir.exists()) return byGroup;
+
+        String root = mappingsDir.getUri().toString();
+        for (TextFile file : mappingsDir.listFilesRecursively()) {
+            String relative = file.name().substring(root.length()).replaceFirst("^/", "");
+            if (!relative.endsWith(".json")) continue;
+
+            int slash = relative.indexOf('/');
+            String group = slash < 0 ? COMMON : relative.substring(0, slash);
+            byGroup.computeIfAbsent(group, g -> new ArrayList<>()).add(file);
+        }
+        byGroup.values().forEach(list -> list.sort((a, b) -> a.name().compareTo(b.name())));
+        return byGroup;
+    }
+}
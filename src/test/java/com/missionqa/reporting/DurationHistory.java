@@ -0,0 +1,164 @@
+package com.missionqa.reporting;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.missionqa.config.TestConfig;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Per-scenario wall time from previous runs, keyed "feature/path.feature:line".
+ *
+ * TimingPlugin keeps {@code scheduling.history} (default artifacts.dir/scenario-durations.json)
+ * up to date; see {@link #record(File, Map)} for how times are smoothed and stale keys dropped.
+ * {@link #load(File)} also reads a Cucumber JSON report (summing hook and step durations,
+ * Background included, the same span TimingPlugin measures) so a plain cucumber.json from an
+ * earlier run can seed the history.
+ */
+public final class DurationHistory {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private static final Path CWD = Paths.get("").toAbsolutePath();
+
+    private DurationHistory() {
+        // utility class
+    }
+
+    public static File file() {
+        return new File(TestConfig.getProperty("scheduling.history",
+                TestConfig.artifactsDir() + "/scenario-durations.json"));
+    }
+
+    public static String key(URI featureUri, int line) {
+        return featurePath(featureUri) + ":" + line;
+    }
+
+    // Feature files relative to the working directory, so keys match across machines and report formats
+    static String featurePath(URI uri) {
+        if (!"file".equals(uri.getScheme())) return uri.toString();
+        if (uri.isOpaque()) return uri.getSchemeSpecificPart(); // "file:src/test/..." as written by the json plugin
+        return CWD.relativize(Paths.get(uri).toAbsolutePath()).toString().replace('\\', '/');
+    }
+
+    /**
+     * Milliseconds per scenario key; empty if the file is missing or unreadable.
+     */
+    public static Map<String, Long> load(File file) {
+        Map<String, Long> durations = new HashMap<>();
+        if (!file.isFile() || file.length() == 0) return durations;
+
+        JsonNode root;
+        try {
+            root = MAPPER.readTree(file);
+        } catch (IOException e) {
+            return durations;
+        }
+
+        if (root.isObject()) {
+            root.properties().forEach(e -> durations.put(e.getKey(), e.getValue().asLong()));
+        } else if (root.isArray()) {
+            // Cucumber JSON: features -> elements (scenarios) -> before/steps/after results, durations in ns.
+            // A Background is reported as its own element right before each scenario it ran for.
+            for (JsonNode feature : root) {
+                String path = featurePath(URI.create(feature.path("uri").asText()));
+                long background = 0;
+                for (JsonNode element : feature.path("elements")) {
+                    long nanos = sum(element.path("before")) + sum(element.path("steps")) + sum(element.path("after"));
+                    if (!"scenario".equals(element.path("type").asText())) {
+                        background = nanos;
+                        continue;
+                    }
+                    durations.put(path + ":" + element.path("line").asInt(), (background + nanos) / 1_000_000);
+                    background = 0;
+                }
+            }
+        }
+        return durations;
+    }
+
+    /**
+     * Rewrites the history file from this run's times. Each observed scenario's value is an
+     * exponentially weighted moving average with weight 0.5: (previous + observed) / 2, so the
+     * latest run counts half, the one before a quarter, and so on - one slow run moves the value
+     * only halfway, a lasting change is followed within a few runs. Scenarios not observed (e.g.
+     * filtered out by tags) keep their previous value only while their key still points at a
+     * scenario in the feature files; keys of deleted or moved scenarios are dropped.
+     */
+    static void record(File file, Map<String, Long> observed) throws IOException {
+        Map<String, Long> previous = load(file);
+        Map<String, Long> updated = new TreeMap<>();
+        observed.forEach((key, ms) -> {
+            Long before = previous.get(key);
+            updated.put(key, before == null ? ms : (before + ms) / 2);
+        });
+        Map<String, Set<Integer>> lines = new HashMap<>();
+        previous.forEach((key, ms) -> {
+            if (!updated.containsKey(key) && stillExists(key, lines)) updated.put(key, ms);
+        });
+
+        File dir = file.getAbsoluteFile().getParentFile();
+        if (dir != null && !dir.exists()) dir.mkdirs();
+        MAPPER.writeValue(file, updated);
+    }
+
+    // "path:line" names a scenario or an Examples row of the feature file as it is now
+    private static boolean stillExists(String key, Map<String, Set<Integer>> lines) {
+        int colon = key.lastIndexOf(':');
+        if (colon < 0) return false;
+        int line;
+        try {
+            line = Integer.parseInt(key.substring(colon + 1));
+        } catch (NumberFormatException e) {
+            return false;
+        }
+        return lines.computeIfAbsent(key.substring(0, colon), DurationHistory::scenarioLines).contains(line);
+    }
+
+    // Lines of Scenario/Example keywords and Examples data rows; empty if the file is gone
+    private static Set<Integer> scenarioLines(String featurePath) {
+        Set<Integer> found = new HashSet<>();
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(CWD.resolve(featurePath));
+        } catch (IOException | InvalidPathException e) {
+            return found;
+        }
+        boolean examples = false;
+        boolean header = false;
+        for (int i = 0; i < lines.size(); i++) {
+            String text = lines.get(i).trim();
+            if (text.isEmpty() || text.startsWith("#") || text.startsWith("@")) continue;
+            if (text.startsWith("|")) {
+                if (examples && !header) found.add(i + 1);
+                header = false;
+                continue;
+            }
+            examples = text.startsWith("Examples:") || text.startsWith("Scenarios:");
+            header = examples;
+            if (text.startsWith("Scenario:") || text.startsWith("Example:")) found.add(i + 1);
+        }
+        return found;
+    }
+
+    private static long sum(JsonNode steps) {
+        long total = 0;
+        for (Iterator<JsonNode> it = steps.elements(); it.hasNext(); ) {
+            total += it.next().path("result").path("duration").asLong();
+        }
+        return total;
+    }
+}
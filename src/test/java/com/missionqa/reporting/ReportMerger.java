@@ -0,0 +1,336 @@
+package com.missionqa.reporting;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Merges, labels and de-duplicates Cucumber JSON reports with Jackson's streaming API.
+ *
+ * Usage: {@code ReportMerger [--history scenario-durations.json] merged.json [--label <text>] in.json ... }
+ *
+ * A {@code --label} applies to the inputs after it and is appended to their feature names
+ * ("Checkout [UI Chrome]"), keeping browser runs of the same feature apart. Features with the
+ * same uri and label (e.g. split across shards) come out as one feature, and a scenario reported
+ * more than once (a retry, a re-run report) keeps only its last attempt, background included.
+ *
+ * Two streaming passes: the first only collects each feature's byte offset and the uri/line/
+ * duration of its elements, the second copies the kept elements token by token from those
+ * offsets. Memory grows with the number of scenarios, never with the report size (embedded
+ * screenshots are copied through, not held). The output may be one of the inputs; it is
+ * written to a temp file and moved into place.
+ */
+public final class ReportMerger {
+
+    private static final JsonFactory JSON = new JsonFactory();
+
+    private ReportMerger() {
+        // utility class
+    }
+
+    public static void main(String[] args) throws IOException {
+        File history = null;
+        File out = null;
+        String label = null;
+        List<Input> inputs = new ArrayList<>();
+
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("--history") && i + 1 < args.length) {
+                history = new File(args[++i]);
+            } else if (args[i].equals("--label") && i + 1 < args.length) {
+                label = args[++i].isBlank() ? null : args[i].trim();
+            } else if (out == null) {
+                out = new File(args[i]);
+            } else {
+                inputs.add(new Input(new File(args[i]), label));
+            }
+        }
+        if (out == null || inputs.isEmpty()) {
+            throw new IllegalArgumentException(
+                    "Usage: ReportMerger [--history <file>] <output.json> [--label <text>] <input.json>...");
+        }
+
+        Result result = merge(inputs, out);
+        System.out.println("Merged " + result.reports + " reports into " + out + ": " + result.features
+                + " features, " + result.scenarios + " scenarios, " + result.duplicates + " duplicate attempts dropped");
+
+        if (history != null) {
+            DurationHistory.record(history, result.millis);
+            System.out.println("Updated duration history " + history);
+        }
+    }
+
+    /**
+     * Writes the merged report. Missing or empty inputs are skipped (a shard may have had
+     * nothing to run); anything that is not a JSON array is rejected.
+     */
+    static Result merge(List<Input> inputs, File out) throws IOException {
+        // Pass 1: index features and elements
+        Map<String, List<Feature>> groups = new LinkedHashMap<>();
+        Map<String, Element> lastAttempt = new HashMap<>();
+        int reports = 0;
+        for (Input input : inputs) {
+            if (!input.file.isFile() || input.file.length() == 0) {
+                System.err.println("Skipping missing/empty report " + input.file);
+                continue;
+            }
+            reports++;
+            for (Feature feature : index(input)) {
+                groups.computeIfAbsent(feature.groupKey(), k -> new ArrayList<>()).add(feature);
+                for (Element element : feature.elements) {
+                    if (element.scenario) lastAttempt.put(feature.groupKey() + ":" + element.line, element);
+                }
+            }
+        }
+
+        // Keep the last attempt of each scenario and the background reported just before it
+        Result result = new Result(reports);
+        for (List<Feature> group : groups.values()) {
+            for (Feature feature : group) {
+                boolean nextKept = true;
+                for (int i = feature.elements.size() - 1; i >= 0; i--) {
+                    Element element = feature.elements.get(i);
+                    if (element.scenario) {
+                        element.kept = lastAttempt.get(feature.groupKey() + ":" + element.line) == element;
+                        nextKept = element.kept;
+                        if (element.kept) {
+                            result.scenarios++;
+                            result.millis.put(DurationHistory.key(URI.create(feature.uri), element.line), element.nanos / 1_000_000);
+                        } else {
+                            result.duplicates++;
+                        }
+                    } else {
+                        element.kept = nextKept;
+                    }
+                }
+            }
+        }
+        result.features = groups.size();
+
+        // Pass 2: stream the kept elements into the output
+        Path target = out.getAbsoluteFile().toPath();
+        Files.createDirectories(target.getParent());
+        Path tmp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+        try {
+            try (JsonGenerator gen = JSON.createGenerator(tmp.toFile(), JsonEncoding.UTF8)) {
+                gen.setPrettyPrinter(new DefaultPrettyPrinter());
+                gen.writeStartArray();
+                for (List<Feature> group : groups.values()) {
+                    writeFeature(gen, group);
+                }
+                gen.writeEndArray();
+            }
+            move(tmp, target);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+        return result;
+    }
+
+    // ---------------------------------------------------------------
+    // Pass 1
+    // ---------------------------------------------------------------
+
+    private static List<Feature> index(Input input) throws IOException {
+        List<Feature> features = new ArrayList<>();
+        try (JsonParser p = JSON.createParser(input.file)) {
+            if (p.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException(input.file + " is not a Cucumber JSON report (expected an array)");
+            }
+            while (p.nextToken() == JsonToken.START_OBJECT) {
+                Feature feature = new Feature(input, p.currentTokenLocation().getByteOffset());
+                while (p.nextToken() == JsonToken.FIELD_NAME) {
+                    String field = p.currentName();
+                    p.nextToken();
+                    if (field.equals("uri")) {
+                        feature.uri = p.getText();
+                    } else if (field.equals("elements") && p.currentToken() == JsonToken.START_ARRAY) {
+                        // A scenario's time includes the Background reported just before it (as TimingPlugin's does)
+                        long background = 0;
+                        while (p.nextToken() == JsonToken.START_OBJECT) {
+                            Element element = indexElement(p);
+                            if (element.scenario) {
+                                element.nanos += background;
+                                background = 0;
+                            } else {
+                                background = element.nanos;
+                            }
+                            feature.elements.add(element);
+                        }
+                    } else {
+                        p.skipChildren();
+                    }
+                }
+                features.add(feature);
+            }
+        }
+        return features;
+    }
+
+    // Type, line and the summed step/hook durations (ns); embeddings and the rest are skipped unread
+    private static Element indexElement(JsonParser p) throws IOException {
+        Element element = new Element();
+        int depth = 0;
+        while (true) {
+            JsonToken token = p.nextToken();
+            if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+                depth++;
+            } else if (token == JsonToken.END_OBJECT || token == JsonToken.END_ARRAY) {
+                if (depth-- == 0) return element;
+            } else if (token == JsonToken.FIELD_NAME) {
+                String field = p.currentName();
+                JsonToken value = p.nextToken();
+                if (value == JsonToken.START_OBJECT || value == JsonToken.START_ARRAY) {
+                    depth++;
+                } else if (depth == 0 && field.equals("type")) {
+                    element.scenario = "scenario".equals(p.getText());
+                } else if (depth == 0 && field.equals("line")) {
+                    element.line = p.getIntValue();
+                } else if (field.equals("duration") && value.isNumeric()) {
+                    element.nanos += p.getLongValue();
+                }
+            }
+        }
+    }
+
+    // ---------------------------------------------------------------
+    // Pass 2
+    // ---------------------------------------------------------------
+
+    // The first part supplies the feature's own fields; every part contributes its kept elements
+    private static void writeFeature(JsonGenerator gen, List<Feature> group) throws IOException {
+        Feature first = group.get(0);
+        try (JsonParser p = open(first)) {
+            boolean elementsWritten = false;
+            gen.writeStartObject();
+            while (p.nextToken() == JsonToken.FIELD_NAME) {
+                String field = p.currentName();
+                p.nextToken();
+                if (field.equals("elements") && p.currentToken() == JsonToken.START_ARRAY) {
+                    gen.writeFieldName(field);
+                    gen.writeStartArray();
+                    copyElements(p, first, gen);
+                    for (Feature part : group.subList(1, group.size())) copyElements(part, gen);
+                    gen.writeEndArray();
+                    elementsWritten = true;
+                } else if (field.equals("name") && first.input.label != null) {
+                    gen.writeStringField(field, p.getText() + " [" + first.input.label + "]");
+                } else {
+                    gen.writeFieldName(field);
+                    gen.copyCurrentStructure(p);
+                }
+            }
+            if (!elementsWritten && group.size() > 1) {
+                gen.writeArrayFieldStart("elements");
+                for (Feature part : group.subList(1, group.size())) copyElements(part, gen);
+                gen.writeEndArray();
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static void copyElements(Feature part, JsonGenerator gen) throws IOException {
+        try (JsonParser p = open(part)) {
+            while (p.nextToken() == JsonToken.FIELD_NAME) {
+                String field = p.currentName();
+                p.nextToken();
+                if (field.equals("elements") && p.currentToken() == JsonToken.START_ARRAY) {
+                    copyElements(p, part, gen);
+                    return;
+                }
+                p.skipChildren();
+            }
+        }
+    }
+
+    // Parser positioned on the elements' START_ARRAY
+    private static void copyElements(JsonParser p, Feature feature, JsonGenerator gen) throws IOException {
+        for (Element element : feature.elements) {
+            p.nextToken();
+            if (element.kept) {
+                gen.copyCurrentStructure(p);
+            } else {
+                p.skipChildren();
+            }
+        }
+        p.nextToken(); // END_ARRAY
+    }
+
+    // Parser positioned on the feature's START_OBJECT, read straight from its byte offset
+    private static JsonParser open(Feature feature) throws IOException {
+        InputStream in = Files.newInputStream(feature.input.file.toPath());
+        in.skipNBytes(feature.offset);
+        JsonParser p = JSON.createParser(in);
+        p.enable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+        p.nextToken();
+        return p;
+    }
+
+    private static void move(Path from, Path to) throws IOException {
+        try {
+            Files.move(from, to, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(from, to, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    // ---------------------------------------------------------------
+    // Model
+    // ---------------------------------------------------------------
+
+    /** One report to merge, with the label for its feature names (null for none). */
+    record Input(File file, String label) {}
+
+    /** Counts for the log line, plus the kept scenarios' times for the duration history. */
+    static final class Result {
+        final int reports;
+        int features;
+        int scenarios;
+        int duplicates;
+        final Map<String, Long> millis = new HashMap<>();
+
+        Result(int reports) {
+            this.reports = reports;
+        }
+    }
+
+    private static final class Feature {
+        final Input input;
+        final long offset;
+        final List<Element> elements = new ArrayList<>();
+        String uri = "";
+
+        Feature(Input input, long offset) {
+            this.input = input;
+            this.offset = offset;
+        }
+
+        String groupKey() {
+            return input.label + "|" + uri;
+        }
+    }
+
+    private static final class Element {
+        boolean scenario;
+        int line;
+        long nanos;
+        boolean kept;
+    }
+}
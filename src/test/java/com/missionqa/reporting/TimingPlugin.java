@@ -0,0 +1,245 @@
+package com.missionqa.reporting;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.missionqa.config.TestConfig;
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.HookTestStep;
+import io.cucumber.plugin.event.PickleStepTestStep;
+import io.cucumber.plugin.event.TestCase;
+import io.cucumber.plugin.event.TestCaseFinished;
+import io.cucumber.plugin.event.TestCaseStarted;
+import io.cucumber.plugin.event.TestRunFinished;
+import io.cucumber.plugin.event.TestRunStarted;
+import io.cucumber.plugin.event.TestStep;
+import io.cucumber.plugin.event.TestStepFinished;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Cucumber plugin recording the wall time of every hook, step and scenario.
+ *
+ * Usage: {@code com.missionqa.reporting.TimingPlugin:/app/artifacts/timings.json}
+ *
+ * Events arrive on the thread running the scenario, so each worker appends to its own
+ * primitive-array buffer (no locking, no per-event objects); buffers are merged once at the
+ * end of the run into per-definition count/total/p50/p95/max and the slowest
+ * {@code timing.slowest} occurrences of each kind. Scenario times also feed {@link DurationHistory}.
+ */
+public final class TimingPlugin implements ConcurrentEventListener {
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final String[] KINDS = {"hook", "step", "scenario"};
+    private static final byte HOOK = 0;
+    private static final byte STEP = 1;
+    private static final byte SCENARIO = 2;
+
+    private final File out;
+    private final int slowestN = TestConfig.getInt("timing.slowest", 10);
+
+    // Names are interned once; records only carry ids
+    private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+    private final List<String> names = new ArrayList<>();
+
+    private final Queue<Buffer> buffers = new ConcurrentLinkedQueue<>();
+    private final ThreadLocal<Buffer> buffer = ThreadLocal.withInitial(this::newBuffer);
+
+    // This run's scenario times, merged into the scheduling history at the end
+    private final Map<String, Long> scenarioMillis = new ConcurrentHashMap<>();
+
+    private Instant runStarted;
+
+    public TimingPlugin(File out) {
+        this.out = out;
+    }
+
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        publisher.registerHandlerFor(TestRunStarted.class, e -> runStarted = e.getInstant());
+        publisher.registerHandlerFor(TestCaseStarted.class, e -> buffer.get().scenario = id(scenarioKey(e.getTestCase())));
+        publisher.registerHandlerFor(TestStepFinished.class, this::onStep);
+        publisher.registerHandlerFor(TestCaseFinished.class, e -> {
+            Buffer b = buffer.get();
+            b.add(SCENARIO, b.scenario, b.scenario, e.getResult().getDuration());
+            scenarioMillis.put(historyKey(e.getTestCase()), e.getResult().getDuration().toMillis());
+        });
+        publisher.registerHandlerFor(TestRunFinished.class, this::write);
+    }
+
+    private void onStep(TestStepFinished e) {
+        TestStep step = e.getTestStep();
+        Buffer b = buffer.get();
+        if (step instanceof PickleStepTestStep) {
+            PickleStepTestStep pickle = (PickleStepTestStep) step;
+            // Group by step definition; undefined steps fall back to their text
+            String pattern = pickle.getPattern() != null ? pickle.getPattern() : pickle.getStep().getText();
+            b.add(STEP, id(pattern), b.scenario, e.getResult().getDuration());
+        } else if (step instanceof HookTestStep) {
+            String hook = ((HookTestStep) step).getHookType() + " " + step.getCodeLocation();
+            b.add(HOOK, id(hook), b.scenario, e.getResult().getDuration());
+        }
+    }
+
+    private Buffer newBuffer() {
+        Buffer b = new Buffer();
+        buffers.add(b);
+        return b;
+    }
+
+    private int id(String name) {
+        Integer id = ids.get(name);
+        if (id != null) return id;
+        synchronized (names) {
+            return ids.computeIfAbsent(name, n -> {
+                names.add(n);
+                return names.size() - 1;
+            });
+        }
+    }
+
+    private static String scenarioKey(TestCase testCase) {
+        return historyKey(testCase) + " " + testCase.getName();
+    }
+
+    private static String historyKey(TestCase testCase) {
+        return DurationHistory.key(testCase.getUri(), testCase.getLocation().getLine());
+    }
+
+    // ---------------------------------------------------------------
+    // Report
+    // ---------------------------------------------------------------
+
+    private void write(TestRunFinished e) {
+        List<String> names;
+        synchronized (this.names) {
+            names = new ArrayList<>(this.names);
+        }
+
+        // Merge: per (kind, name) all durations; per kind all occurrences for slowest-N
+        Map<Long, long[]> byDefinition = new LinkedHashMap<>();
+        Map<Long, Integer> fill = new LinkedHashMap<>();
+        List<List<long[]>> occurrences = List.of(new ArrayList<>(), new ArrayList<>(), new ArrayList<>());
+
+        for (Buffer b : buffers) {
+            for (int i = 0; i < b.size; i++) {
+                long key = ((long) b.kind[i] << 32) | b.name[i];
+                fill.merge(key, 1, Integer::sum);
+            }
+        }
+        fill.forEach((key, count) -> byDefinition.put(key, new long[count]));
+        fill.replaceAll((k, v) -> 0);
+
+        for (Buffer b : buffers) {
+            for (int i = 0; i < b.size; i++) {
+                long key = ((long) b.kind[i] << 32) | b.name[i];
+                int slot = fill.merge(key, 1, Integer::sum) - 1;
+                byDefinition.get(key)[slot] = b.nanos[i];
+                occurrences.get(b.kind[i]).add(new long[]{b.nanos[i], b.name[i], b.scenarioOf[i]});
+            }
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("wallMs", runStarted == null ? null : Duration.between(runStarted, e.getInstant()).toMillis());
+        report.put("scenarios", occurrences.get(SCENARIO).size());
+
+        List<Map<String, Object>> definitions = new ArrayList<>();
+        byDefinition.forEach((key, nanos) -> {
+            Arrays.sort(nanos);
+            long total = 0;
+            for (long n : nanos) total += n;
+
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("kind", KINDS[(int) (key >>> 32)]);
+            row.put("name", names.get((int) (key & 0xFFFFFFFFL)));
+            row.put("count", nanos.length);
+            row.put("totalMs", ms(total));
+            row.put("p50Ms", ms(percentile(nanos, 50)));
+            row.put("p95Ms", ms(percentile(nanos, 95)));
+            row.put("maxMs", ms(nanos[nanos.length - 1]));
+            definitions.add(row);
+        });
+        definitions.sort(Comparator.comparingDouble(r -> -((Double) r.get("totalMs"))));
+        report.put("definitions", definitions);
+
+        Map<String, Object> slowest = new LinkedHashMap<>();
+        for (byte kind = 0; kind < KINDS.length; kind++) {
+            List<long[]> all = occurrences.get(kind);
+            all.sort(Comparator.comparingLong((long[] o) -> o[0]).reversed());
+
+            List<Map<String, Object>> top = new ArrayList<>();
+            for (long[] o : all.subList(0, Math.min(slowestN, all.size()))) {
+                Map<String, Object> row = new LinkedHashMap<>();
+                row.put("name", names.get((int) o[1]));
+                if (kind != SCENARIO && o[2] >= 0) row.put("scenario", names.get((int) o[2]));
+                row.put("ms", ms(o[0]));
+                top.add(row);
+            }
+            slowest.put(KINDS[kind], top);
+        }
+        report.put("slowest", slowest);
+
+        File dir = out.getAbsoluteFile().getParentFile();
+        if (dir != null && !dir.exists()) dir.mkdirs();
+        try {
+            new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(out, report);
+            // Shards would race on the shared file; ReportMerger folds the merged report in instead
+            if (!TestConfig.sharded()) {
+                DurationHistory.record(DurationHistory.file(), scenarioMillis);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Cannot write timings to " + out, ex);
+        }
+    }
+
+    // Nearest-rank percentile of a sorted array
+    private static long percentile(long[] sorted, int p) {
+        int rank = (int) Math.ceil(p / 100.0 * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+
+    private static double ms(long nanos) {
+        return Math.round(nanos / 10_000.0) / 100.0;
+    }
+
+    /**
+     * One worker's records as parallel primitive arrays; only ever touched by its own thread
+     * until the run has finished.
+     */
+    private static final class Buffer {
+        byte[] kind = new byte[INITIAL_CAPACITY];
+        int[] name = new int[INITIAL_CAPACITY];
+        int[] scenarioOf = new int[INITIAL_CAPACITY];
+        long[] nanos = new long[INITIAL_CAPACITY];
+        int size;
+        int scenario = -1;
+
+        void add(byte k, int nameId, int scenarioId, Duration d) {
+            if (size == kind.length) {
+                int cap = size * 2;
+                kind = Arrays.copyOf(kind, cap);
+                name = Arrays.copyOf(name, cap);
+                scenarioOf = Arrays.copyOf(scenarioOf, cap);
+                nanos = Arrays.copyOf(nanos, cap);
+            }
+            kind[size] = k;
+            name[size] = nameId;
+            scenarioOf[size] = scenarioId;
+            nanos[size] = d.toNanos();
+            size++;
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package com.missionqa.reporting.steps;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.missionqa.reporting.DurationHistory;
+import com.missionqa.reporting.ReportMerger;
+import io.cucumber.java.After;
+import io.cucumber.java.en.Given;
+import io.cucumber.java.en.Then;
+import io.cucumber.java.en.When;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.testng.Assert.*;
+
+public class ReportMergerSteps {
+
+        private static final ObjectMapper MAPPER = new ObjectMapper();
+
+        // Fixture reports on the test classpath
+        private static final String FIXTURES = "/reports/";
+
+        // Feature the fixture reports point at
+        private static final String UI_FEATURE = "src/test/resources/features/ui/UI-Test.feature";
+
+        private Path workDir;
+        private final List<Path> inputs = new ArrayList<>();
+        private Path merged;
+        private Path history;
+
+        @After("@reporting")
+        public void cleanUp() throws IOException {
+                if (workDir == null) return;
+                try (Stream<Path> paths = Files.walk(workDir)) {
+                        paths.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+                }
+        }
+
+        // -------------------------
+        // MERGE / LABEL
+        // -------------------------
+
+        @Given("the previous duration history {string}")
+        public void thePreviousDurationHistory(String fixture) throws IOException {
+                history = workDir().resolve("scenario-durations.json");
+                try (InputStream in = ReportMergerSteps.class.getResourceAsStream(FIXTURES + fixture)) {
+                        assertNotNull(in, "Missing fixture history " + FIXTURES + fixture);
+                        Files.copy(in, history);
+                }
+        }
+
+        @When("I merge the reports {string} labeled {string}")
+        public void iMergeTheReportsLabeled(String fixtures, String label) throws IOException {
+                List<String> args = new ArrayList<>(List.of(output(), "--label", label));
+                for (String fixture : split(fixtures)) {
+                        args.add(fixture(fixture));
+                }
+                ReportMerger.main(args.toArray(new String[0]));
+        }
+
+        @When("I merge the reports {string} labeled {string} into a duration history")
+        public void iMergeTheReportsIntoADurationHistory(String fixtures, String label) throws IOException {
+                if (history == null) history = workDir().resolve("scenario-durations.json");
+                List<String> args = new ArrayList<>(List.of("--history", history.toString(), output(), "--label", label));
+                for (String fixture : split(fixtures)) {
+                        args.add(fixture(fixture));
+                }
+                ReportMerger.main(args.toArray(new String[0]));
+        }
+
+        @When("I merge the report {string} labeled {string} with the report {string} labeled {string}")
+        public void iMergeTwoLabeledReports(String first, String firstLabel, String second, String secondLabel) throws IOException {
+                ReportMerger.main(new String[] {
+                        output(),
+                        "--label", firstLabel, fixture(first),
+                        "--label", secondLabel, fixture(second)});
+        }
+
+        @When("I label the report {string} in place as {string}")
+        public void iLabelTheReportInPlace(String fixture, String label) throws IOException {
+                String report = fixture(fixture);
+                merged = Path.of(report);
+                ReportMerger.main(new String[] {report, "--label", label, report});
+        }
+
+        // -------------------------
+        // MERGED REPORT
+        // -------------------------
+
+        @Then("the merged report should have the features {string}")
+        public void theMergedReportShouldHaveTheFeatures(String names) throws IOException {
+                List<String> actual = new ArrayList<>();
+                mergedReport().forEach(feature -> actual.add(feature.path("name").asText()));
+                assertEquals(actual, split(names), "Merged feature names");
+        }
+
+        @Then("{int} scenario(s) should be kept and {int} duplicate attempt(s) dropped")
+        public void scenariosShouldBeKeptAndDuplicatesDropped(int kept, int dropped) throws IOException {
+                int reported = 0;
+                for (Path input : inputs) {
+                        reported += scenarios(MAPPER.readTree(input.toFile()));
+                }
+                int actual = scenarios(mergedReport());
+                assertEquals(actual, kept, "Scenarios in the merged report");
+                assertEquals(reported - actual, dropped, "Duplicate attempts dropped");
+        }
+
+        @Then("the merged feature {string} should have the elements {string}")
+        public void theMergedFeatureShouldHaveTheElements(String name, String elements) throws IOException {
+                JsonNode feature = feature(name);
+                List<String> actual = new ArrayList<>();
+                for (JsonNode element : feature.path("elements")) {
+                        String type = element.path("type").asText();
+                        actual.add(type.equals("scenario") ? type + ":" + element.path("line").asInt() : type);
+                }
+                assertEquals(actual, split(elements), "Elements of " + name + " (type, and line for scenarios)");
+        }
+
+        @Then("the merged scenario at line {int} should have passed")
+        public void theMergedScenarioShouldHavePassed(int line) throws IOException {
+                for (JsonNode feature : mergedReport()) {
+                        for (JsonNode element : feature.path("elements")) {
+                                if (!element.path("type").asText().equals("scenario") || element.path("line").asInt() != line) continue;
+                                for (JsonNode step : element.path("steps")) {
+                                        assertEquals(step.path("result").path("status").asText(), "passed",
+                                                "Scenario at line " + line + ", step '" + step.path("name").asText() + "'");
+                                }
+                                return;
+                        }
+                }
+                fail("No scenario at line " + line + " in the merged report");
+        }
+
+        // -------------------------
+        // DURATION HISTORY
+        // -------------------------
+
+        @Then("the duration history should have {long} ms for the scenario at line {int}")
+        public void theDurationHistoryShouldHave(long millis, int line) {
+                assertNotNull(history, "No duration history was written. Did the When step run?");
+                Map<String, Long> durations = DurationHistory.load(history.toFile());
+                String key = UI_FEATURE + ":" + line;
+                assertEquals(durations.get(key), Long.valueOf(millis), "History for " + key + " in " + durations);
+        }
+
+        @Then("the duration history should only have the scenarios at lines {string}")
+        public void theDurationHistoryShouldOnlyHave(String lines) {
+                assertNotNull(history, "No duration history was written. Did the When step run?");
+                Set<String> expected = new TreeSet<>();
+                split(lines).forEach(line -> expected.add(UI_FEATURE + ":" + line));
+                assertEquals(new TreeSet<>(DurationHistory.load(history.toFile()).keySet()), expected,
+                        "Scenario keys in the duration history");
+        }
+
+        @Then("reading the merged report as a duration history should give the same times")
+        public void readingTheMergedReportShouldGiveTheSameTimes() {
+                assertNotNull(history, "No duration history was written. Did the When step run?");
+                assertEquals(DurationHistory.load(merged.toFile()), DurationHistory.load(history.toFile()),
+                        "Scenario times read from the merged report vs. recorded by the merger");
+        }
+
+        // -------------------------
+        // Helpers
+        // -------------------------
+
+        private Path workDir() throws IOException {
+                if (workDir == null) workDir = Files.createTempDirectory("report-merger-");
+                return workDir;
+        }
+
+        private String output() throws IOException {
+                merged = workDir().resolve("merged.json");
+                return merged.toString();
+        }
+
+        // Copies the fixture into the scenario's work dir (in-place labeling rewrites it)
+        private String fixture(String name) throws IOException {
+                Path copy = workDir().resolve(inputs.size() + "-" + name);
+                try (InputStream in = ReportMergerSteps.class.getResourceAsStream(FIXTURES + name)) {
+                        assertNotNull(in, "Missing fixture report " + FIXTURES + name);
+                        Files.copy(in, copy);
+                }
+                inputs.add(copy);
+                return copy.toString();
+        }
+
+        private JsonNode mergedReport() throws IOException {
+                assertNotNull(merged, "Nothing was merged. Did the When step run?");
+                return MAPPER.readTree(merged.toFile());
+        }
+
+        private JsonNode feature(String name) throws IOException {
+                for (JsonNode feature : mergedReport()) {
+                        if (feature.path("name").asText().equals(name)) return feature;
+                }
+                throw new AssertionError("No feature named '" + name + "' in the merged report");
+        }
+
+        private static int scenarios(JsonNode report) {
+                int count = 0;
+                for (JsonNode feature : report) {
+                        for (JsonNode element : feature.path("elements")) {
+                                if (element.path("type").asText().equals("scenario")) count++;
+                        }
+                }
+                return count;
+        }
+
+        private static List<String> split(String list) {
+                return Arrays.stream(list.split(","))
+                        .map(String::trim)
+                        .filter(s -> !s.isEmpty())
+                        .collect(Collectors.toList());
+        }
+}
@@ -0,0 +1,157 @@
+package com.missionqa.runners;
+
+import com.missionqa.config.TestConfig;
+import com.missionqa.reporting.DurationHistory;
+import io.cucumber.testng.Pickle;
+import io.cucumber.testng.PickleWrapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Orders the runner's scenario rows ({@code scheduling.mode}):
+ *   file          - feature-file order (default)
+ *   longest-first - scenarios with a recorded duration first, slowest first, so the long ones
+ *                   start early and the short ones fill in the gaps on the parallel workers;
+ *                   scenarios with no history follow in file order
+ *
+ * With shard.total > 1 each JVM first keeps only its own shard: scenarios are dealt out
+ * slowest-first to the least-loaded shard (unknown durations count as the median known one),
+ * ties broken by scenario id ("feature:line"), so the shards finish together. The split is
+ * computed independently by every JVM and is only a partition if they all read the same
+ * scheduling.history; shards therefore never fall back to a cucumber.json, and without a history
+ * every estimate is equal, which deals the scenarios out in id order. Each shard logs its
+ * scenario count and a fingerprint of the history it used so a mismatch shows up in the logs.
+ *
+ * History is read once, when the runner class loads - before Cucumber's json plugin truncates
+ * the previous cucumber.json, which is the fallback for unsharded runs when the history file
+ * does not exist yet.
+ */
+final class ScenarioScheduler {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ScenarioScheduler.class);
+
+    private final String mode;
+    private final Map<String, Long> history;
+    private final String source;
+    private final int shardIndex;
+    private final int shardTotal;
+
+    private ScenarioScheduler(String mode, Map<String, Long> history, String source, int shardIndex, int shardTotal) {
+        this.mode = mode;
+        this.history = history;
+        this.source = source;
+        this.shardIndex = shardIndex;
+        this.shardTotal = shardTotal;
+    }
+
+    static ScenarioScheduler fromConfig() {
+        String mode = TestConfig.getProperty("scheduling.mode", "file").trim().toLowerCase();
+        if (!mode.equals("file") && !mode.equals("longest-first")) {
+            throw new IllegalArgumentException("Unsupported scheduling.mode: " + mode + " (expected file or longest-first)");
+        }
+
+        int shardIndex = TestConfig.shardIndex();
+        int shardTotal = TestConfig.shardTotal();
+        if (shardIndex < 0 || shardIndex >= shardTotal) {
+            throw new IllegalArgumentException("shard.index must be in [0, " + shardTotal + "), got " + shardIndex);
+        }
+        if (mode.equals("file") && shardTotal == 1) {
+            return new ScenarioScheduler(mode, Map.of(), "none", 0, 1);
+        }
+
+        File history = DurationHistory.file();
+        Map<String, Long> durations = DurationHistory.load(history);
+        if (durations.isEmpty() && shardTotal == 1) {
+            history = new File(TestConfig.artifactsDir(), "cucumber.json");
+            durations = DurationHistory.load(history);
+        }
+        String source = durations.isEmpty()
+                ? "none (" + history.getPath() + " missing or empty)"
+                : history.getPath() + ", " + durations.size() + " entries, fingerprint " + fingerprint(durations);
+        return new ScenarioScheduler(mode, durations, source, shardIndex, shardTotal);
+    }
+
+    // Same on every JVM for the same content, whatever the file's formatting or key order
+    private static String fingerprint(Map<String, Long> durations) {
+        return String.format("%08x", new TreeMap<>(durations).toString().hashCode());
+    }
+
+    Object[][] order(Object[][] scenarios) {
+        if (shardTotal > 1) scenarios = shard(scenarios);
+        if (mode.equals("file")) return scenarios;
+
+        List<Object[]> known = new ArrayList<>();
+        List<Object[]> unknown = new ArrayList<>();
+        for (Object[] row : scenarios) {
+            (durationOf(row) != null ? known : unknown).add(row);
+        }
+
+        // Stable sort: equal durations keep file order
+        known.sort(Comparator.comparingLong((Object[] row) -> durationOf(row)).reversed());
+        LOG.info("scheduling: {} with {} of {} scenarios from {}", mode, known.size(), scenarios.length, source);
+
+        List<Object[]> ordered = new ArrayList<>(known);
+        ordered.addAll(unknown);
+        return ordered.toArray(new Object[0][]);
+    }
+
+    // Greedy longest-processing-time split; equal estimates go in scenario id order and ties to the
+    // lowest shard, so the result depends only on the scenario ids and the history
+    private Object[][] shard(Object[][] scenarios) {
+        long fallback = medianKnown(scenarios);
+        long[] estimate = new long[scenarios.length];
+        String[] ids = new String[scenarios.length];
+        Integer[] bySize = new Integer[scenarios.length];
+        for (int i = 0; i < scenarios.length; i++) {
+            Long known = durationOf(scenarios[i]);
+            estimate[i] = known != null ? known : fallback;
+            ids[i] = idOf(scenarios[i]);
+            bySize[i] = i;
+        }
+        Arrays.sort(bySize, Comparator.comparingLong((Integer i) -> estimate[i]).reversed().thenComparing(i -> ids[i]));
+
+        long[] load = new long[shardTotal];
+        boolean[] mine = new boolean[scenarios.length];
+        for (int i : bySize) {
+            int target = 0;
+            for (int s = 1; s < shardTotal; s++) {
+                if (load[s] < load[target]) target = s;
+            }
+            load[target] += estimate[i];
+            mine[i] = target == shardIndex;
+        }
+
+        // File order within the shard; the mode ordering is applied afterwards
+        List<Object[]> selected = new ArrayList<>();
+        for (int i = 0; i < scenarios.length; i++) {
+            if (mine[i]) selected.add(scenarios[i]);
+        }
+        LOG.info("sharding: shard {} of {} runs {} of {} scenarios (~{} ms estimated, history {})",
+                shardIndex, shardTotal, selected.size(), scenarios.length, load[shardIndex], source);
+        return selected.toArray(new Object[0][]);
+    }
+
+    private long medianKnown(Object[][] scenarios) {
+        long[] known = Arrays.stream(scenarios).map(this::durationOf).filter(Objects::nonNull)
+                .mapToLong(Long::longValue).sorted().toArray();
+        return known.length == 0 ? 1 : Math.max(1, known[known.length / 2]);
+    }
+
+    private Long durationOf(Object[] row) {
+        return history.get(idOf(row));
+    }
+
+    private static String idOf(Object[] row) {
+        Pickle pickle = ((PickleWrapper) row[0]).getPickle();
+        return DurationHistory.key(pickle.getUri(), pickle.getLine());
+    }
+}
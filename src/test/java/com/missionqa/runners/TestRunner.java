@@ -1,21 +1,57 @@
 package com.missionqa.runners;
 
+import com.missionqa.config.TestConfig;
 import io.cucumber.testng.AbstractTestNGCucumberTests;
 import io.cucumber.testng.CucumberOptions;
+import org.testng.ITestContext;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
 
 @CucumberOptions(
         features = "src/test/resources/features",
         glue = {
                 "com.missionqa.hooks",
                 "com.missionqa.ui.steps",
-                "com.missionqa.api.steps"
+                "com.missionqa.api.steps",
+                "com.missionqa.reporting.steps"
         },
+        // Report plugins (html/json/timings) are registered in reportPlugins() so shards get their own files
         plugin = {
-                "pretty",
-                "html:/app/artifacts/cucumber.html",
-                "json:/app/artifacts/cucumber.json"
+                "pretty"
         },
         monochrome = true
 )
 public class TestRunner extends AbstractTestNGCucumberTests {
+
+    // Reads duration history at class load, ahead of the plugins overwriting last run's reports
+    private static final ScenarioScheduler SCHEDULER = ScenarioScheduler.fromConfig();
+
+    static {
+        // Read by Cucumber when the runner is set up, after this class has loaded
+        String existing = System.getProperty("cucumber.plugin", "").trim();
+        System.setProperty("cucumber.plugin", existing.isEmpty() ? reportPlugins() : existing + "," + reportPlugins());
+    }
+
+    // Worker count comes from parallel.threads (1 = serial, the default)
+    @BeforeClass(alwaysRun = true)
+    public void configureWorkers(ITestContext context) {
+        int threads = Math.max(1, TestConfig.parallelThreads());
+        context.getCurrentXmlTest().getSuite().setDataProviderThreadCount(threads);
+    }
+
+    // artifacts.dir/cucumber.html|json + timings.json, suffixed "-shard-<index>" when sharded
+    private static String reportPlugins() {
+        String dir = TestConfig.artifactsDir();
+        String suffix = TestConfig.shardSuffix();
+        return String.join(",",
+                "html:" + dir + "/cucumber" + suffix + ".html",
+                "json:" + dir + "/cucumber" + suffix + ".json",
+                "com.missionqa.reporting.TimingPlugin:" + dir + "/timings" + suffix + ".json");
+    }
+
+    @Override
+    @DataProvider(parallel = true)
+    public Object[][] scenarios() {
+        return SCHEDULER.order(super.scenarios());
+    }
 }
@@ -1,14 +1,157 @@
 package com.missionqa.ui.pages;
 
+import com.missionqa.core.PageReadiness;
+import com.missionqa.core.ScriptLocator;
 import com.missionqa.core.Waits;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 public abstract class BasePage {
+
+    // Resolves every field (and optionally every row) in the page in a single executeScript call
+    private static final String BULK_READ_SCRIPT =
+            "var fields = arguments[0], row = arguments[1];"
+                    + "var q = function (ctx, l) {"
+                    + "  if (l[0] === 'xpath') {"
+                    + "    var r = document.evaluate(l[1], ctx, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null), out = [];"
+                    + "    for (var i = 0; i < r.snapshotLength; i++) out.push(r.snapshotItem(i));"
+                    + "    return out;"
+                    + "  }"
+                    + "  return Array.prototype.slice.call(ctx.querySelectorAll(l[1]));"
+                    + "};"
+                    + "var val = function (el, attr) {"
+                    + "  return attr === null ? (el.innerText || el.textContent || '').trim() : el.getAttribute(attr);"
+                    + "};"
+                    + "var read = function (ctx, all) {"
+                    + "  var o = {};"
+                    + "  fields.forEach(function (f) {"
+                    + "    var els = q(ctx, f[1]);"
+                    + "    o[f[0]] = all ? els.map(function (e) { return val(e, f[2]); }) : (els.length ? val(els[0], f[2]) : null);"
+                    + "  });"
+                    + "  return o;"
+                    + "};"
+                    + "if (row === null) return read(document, true);"
+                    + "return q(document, row).map(function (r) { return read(r, false); });";
+
     protected final WebDriver driver;
     protected final Waits waits;
 
+    // Resolved handles, reused across steps while the page object lives (see Pages)
+    private final Map<By, WebElement> elements = new HashMap<>();
+
     protected BasePage(WebDriver driver) {
         this.driver = driver;
         this.waits = new Waits(driver);
     }
+
+    /**
+     * Element whose visibility means the page is usable, or null if the page declares none.
+     * With driver.pageLoadStrategy=eager navigation returns at DOMContentLoaded, so this -
+     * not the load event - is what steps wait for.
+     */
+    protected By readyMarker() {
+        return null;
+    }
+
+    /**
+     * Waits for {@link #readyMarker()} and records the probe against the page load timing.
+     * Call it after each navigation that lands on this page; the marker's handle is refreshed,
+     * since one cached on an earlier visit belongs to the old document.
+     */
+    public final void awaitReady() {
+        By marker = readyMarker();
+        if (marker == null) return;
+
+        long start = System.nanoTime();
+        elements.put(marker, waits.visible(marker));
+        PageReadiness.record(driver, getClass().getSimpleName(), System.nanoTime() - start);
+    }
+
+    /**
+     * Visible element for the locator, looked up once and then served from the cache.
+     */
+    protected final WebElement element(By locator) {
+        WebElement el = elements.get(locator);
+        if (el == null) {
+            el = waits.visible(locator);
+            elements.put(locator, el);
+        }
+        return el;
+    }
+
+    /**
+     * Runs the action on the cached element; if the handle went stale (re-render or
+     * navigation) it is resolved again and the action retried once.
+     */
+    protected final <R> R withElement(By locator, Function<WebElement, R> action) {
+        try {
+            return action.apply(element(locator));
+        } catch (StaleElementReferenceException e) {
+            elements.remove(locator);
+            return action.apply(element(locator));
+        }
+    }
+
+    protected final void onElement(By locator, Consumer<WebElement> action) {
+        withElement(locator, el -> {
+            action.accept(el);
+            return null;
+        });
+    }
+
+    /**
+     * What to read from an element: its visible text, or one attribute.
+     */
+    protected record Field(By locator, String attribute) {
+        public static Field text(By locator) { return new Field(locator, null); }
+        public static Field attr(By locator, String attribute) { return new Field(locator, attribute); }
+    }
+
+    /**
+     * Reads all matches of every field in one round-trip.
+     * Result maps each key to the values of all matching elements (document order).
+     */
+    @SuppressWarnings("unchecked")
+    protected final Map<String, List<String>> readAll(Map<String, Field> fields) {
+        return (Map<String, List<String>>) ((JavascriptExecutor) driver)
+                .executeScript(BULK_READ_SCRIPT, toScriptArgs(fields), null);
+    }
+
+    /**
+     * Reads one value per field for every element matching {@code row}, in one round-trip.
+     * Field locators are resolved relative to the row (use ./ for relative XPath);
+     * a field with no match in a row is null.
+     */
+    @SuppressWarnings("unchecked")
+    protected final List<Map<String, String>> readRows(By row, Map<String, Field> fields) {
+        return (List<Map<String, String>>) ((JavascriptExecutor) driver)
+                .executeScript(BULK_READ_SCRIPT, toScriptArgs(fields), toScriptLocator(row));
+    }
+
+    // [key, [strategy, value], attribute-or-null] per field
+    private static List<List<Object>> toScriptArgs(Map<String, Field> fields) {
+        List<List<Object>> args = new ArrayList<>();
+        fields.forEach((key, field) ->
+                args.add(Arrays.asList(key, toScriptLocator(field.locator()), field.attribute())));
+        return args;
+    }
+
+    private static List<String> toScriptLocator(By locator) {
+        List<String> script = ScriptLocator.of(locator);
+        if (script == null) {
+            throw new IllegalArgumentException("Locator strategy not supported in a bulk read: " + locator);
+        }
+        return script;
+    }
 }
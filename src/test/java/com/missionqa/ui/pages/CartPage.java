@@ -1,24 +1,59 @@
 package com.missionqa.ui.pages;
 
 import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.List;
+import java.util.Map;
 
 public class CartPage extends BasePage {
 
     private final By checkoutBtn = By.id("checkout");
+    private final By cartItem = By.cssSelector(".cart_item");
+    private final By itemName = By.cssSelector(".inventory_item_name");
+    private final By removeBtn = By.cssSelector("button[id^='remove']");
 
     public CartPage(WebDriver driver) {
         super(driver);
     }
 
+    @Override
+    protected By readyMarker() {
+        return checkoutBtn;
+    }
+
     public void removeItemByName(String itemName) {
-        // On cart page: each cart item has name + a remove button in the same container
-        By itemContainer = By.xpath("//div[@class='cart_item']//div[@class='inventory_item_name' and text()='" + itemName + "']/ancestor::div[@class='cart_item']");
-        By removeBtn = By.xpath(".//button[contains(@id,'remove')]");
-        waits.visible(itemContainer).findElement(removeBtn).click();
+        // One script reads every cart row (name + remove button id), then click the match by id
+        String buttonId = findRemoveButtonId(readItems(), itemName);
+        if (buttonId == null) {
+            // Cart may still be rendering - wait for a row once and re-read
+            waits.visible(cartItem);
+            buttonId = findRemoveButtonId(readItems(), itemName);
+        }
+        if (buttonId == null) {
+            throw new NoSuchElementException("Item not found in cart: " + itemName);
+        }
+        driver.findElement(By.id(buttonId)).click();
     }
 
     public void clickCheckout() {
-        waits.visible(checkoutBtn).click();
+        onElement(checkoutBtn, WebElement::click);
+    }
+
+    private List<Map<String, String>> readItems() {
+        return readRows(cartItem, Map.of(
+                "name", Field.text(itemName),
+                "removeId", Field.attr(removeBtn, "id")));
+    }
+
+    private static String findRemoveButtonId(List<Map<String, String>> rows, String itemName) {
+        for (Map<String, String> row : rows) {
+            if (itemName.equals(row.get("name"))) {
+                return row.get("removeId");
+            }
+        }
+        return null;
     }
 }
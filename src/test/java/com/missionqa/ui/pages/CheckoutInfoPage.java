@@ -2,6 +2,7 @@ package com.missionqa.ui.pages;
 
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
 
 public class CheckoutInfoPage extends BasePage {
 
@@ -14,18 +15,25 @@ public class CheckoutInfoPage extends BasePage {
         super(driver);
     }
 
-    public void enterCheckoutInfo(String first, String last, String zip) {
-        waits.visible(firstName).clear();
-        waits.visible(firstName).sendKeys(first);
-
-        waits.visible(lastName).clear();
-        waits.visible(lastName).sendKeys(last);
+    @Override
+    protected By readyMarker() {
+        return continueBtn;
+    }
 
-        waits.visible(postalCode).clear();
-        waits.visible(postalCode).sendKeys(zip);
+    public void enterCheckoutInfo(String first, String last, String zip) {
+        type(firstName, first);
+        type(lastName, last);
+        type(postalCode, zip);
     }
 
     public void clickContinue() {
-        waits.visible(continueBtn).click();
+        onElement(continueBtn, WebElement::click);
+    }
+
+    private void type(By field, String value) {
+        onElement(field, el -> {
+            el.clear();
+            el.sendKeys(value);
+        });
     }
 }
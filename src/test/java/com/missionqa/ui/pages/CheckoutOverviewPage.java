@@ -1,11 +1,13 @@
 package com.missionqa.ui.pages;
 
 import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.WebDriver;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.List;
+import java.util.Map;
 
 public class CheckoutOverviewPage extends BasePage {
 
@@ -17,42 +19,64 @@ public class CheckoutOverviewPage extends BasePage {
         super(driver);
     }
 
-    public BigDecimal sumOfItemPrices() {
-        List<org.openqa.selenium.WebElement> prices = driver.findElements(itemPrices);
-        BigDecimal sum = BigDecimal.ZERO;
+    @Override
+    protected By readyMarker() {
+        return summaryItemTotal;
+    }
 
-        for (org.openqa.selenium.WebElement el : prices) {
-            sum = sum.add(parseMoney(el.getText()));
+    /**
+     * Item prices, item total and tax read together in a single round-trip.
+     */
+    public Summary summary() {
+        Map<String, List<String>> values = readSummary();
+        if (values.get("itemTotal").isEmpty()) {
+            // Overview not rendered yet - wait for it once, then read again
+            waits.visible(summaryItemTotal);
+            values = readSummary();
+        }
+
+        BigDecimal sum = BigDecimal.ZERO;
+        for (String price : values.get("prices")) {
+            sum = sum.add(parseMoney(price));
         }
-        return sum.setScale(2, RoundingMode.HALF_UP);
+
+        return new Summary(
+                sum.setScale(2, RoundingMode.HALF_UP),
+                parseMoney(extractDollars(first(values, "itemTotal", summaryItemTotal))),
+                parseMoney(extractDollars(first(values, "tax", summaryTax))));
+    }
+
+    public BigDecimal sumOfItemPrices() {
+        return summary().itemPriceSum();
     }
 
     public BigDecimal displayedItemTotal() {
         // Example: "Item total: $103.96"
-        String txt = waits.visible(summaryItemTotal).getText();
-        return parseMoney(extractDollars(txt));
+        return summary().itemTotal();
     }
 
     public BigDecimal displayedTax() {
         // Example: "Tax: $8.32"
-        String txt = waits.visible(summaryTax).getText();
-        return parseMoney(extractDollars(txt));
+        return summary().tax();
     }
 
     public BigDecimal taxRatePercentRoundedToWhole() {
-        BigDecimal itemTotal = displayedItemTotal();
-        BigDecimal tax = displayedTax();
-
-        if (itemTotal.compareTo(BigDecimal.ZERO) == 0) {
-            return BigDecimal.ZERO;
-        }
+        return summary().taxRatePercentRoundedToWhole();
+    }
 
-        BigDecimal rate = tax
-                .divide(itemTotal, 6, RoundingMode.HALF_UP)
-                .multiply(new BigDecimal("100"));
+    private Map<String, List<String>> readSummary() {
+        return readAll(Map.of(
+                "prices", Field.text(itemPrices),
+                "itemTotal", Field.text(summaryItemTotal),
+                "tax", Field.text(summaryTax)));
+    }
 
-        // We expect 8% (whole number). Round normally.
-        return rate.setScale(0, RoundingMode.HALF_UP);
+    private static String first(Map<String, List<String>> values, String key, By locator) {
+        List<String> matches = values.get(key);
+        if (matches == null || matches.isEmpty()) {
+            throw new NoSuchElementException("Checkout overview has no " + key + " label: " + locator);
+        }
+        return matches.get(0);
     }
 
     private String extractDollars(String txt) {
@@ -66,4 +90,20 @@ public class CheckoutOverviewPage extends BasePage {
         String cleaned = money.replace("$", "").trim();
         return new BigDecimal(cleaned).setScale(2, RoundingMode.HALF_UP);
     }
+
+    public record Summary(BigDecimal itemPriceSum, BigDecimal itemTotal, BigDecimal tax) {
+
+        public BigDecimal taxRatePercentRoundedToWhole() {
+            if (itemTotal.compareTo(BigDecimal.ZERO) == 0) {
+                return BigDecimal.ZERO;
+            }
+
+            BigDecimal rate = tax
+                    .divide(itemTotal, 6, RoundingMode.HALF_UP)
+                    .multiply(new BigDecimal("100"));
+
+            // We expect 8% (whole number). Round normally.
+            return rate.setScale(0, RoundingMode.HALF_UP);
+        }
+    }
 }
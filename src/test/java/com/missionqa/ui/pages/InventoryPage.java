@@ -1,59 +1,180 @@
 package com.missionqa.ui.pages;
 
+import com.missionqa.config.TestConfig;
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 public class InventoryPage extends BasePage {
 
+    public static final String PATH = "/inventory.html";
+
+    // Click every button in one call; returns false, clicking nothing, if the page was reloaded
+    // since the index was built or a button is missing (e.g. the item is already in the cart)
+    private static final String CLICK_ALL_SCRIPT =
+            "if (window.__missionqaCatalogue !== arguments[0]) return false;"
+                    + "var buttons = arguments[1].map(function (id) { return document.getElementById(id); });"
+                    + "if (buttons.some(function (b) { return !b; })) return false;"
+                    + "buttons.forEach(function (b) { b.click(); });"
+                    + "return true;";
+
+    // name -> [add-to-cart id, remove id] for every product, and tag the document so a reload is
+    // detectable. Each card shows one of the two buttons; the other id follows the same slug.
+    private static final String CATALOGUE_SCRIPT =
+            "var args = arguments;"
+                    + "window.__missionqaCatalogue = args[0];"
+                    + "var out = {};"
+                    + "document.querySelectorAll(args[1]).forEach(function (item) {"
+                    + "  var name = item.querySelector(args[2]), btn = item.querySelector(args[3]);"
+                    + "  if (!name || !btn) return;"
+                    + "  var slug = btn.id.replace(/^(add-to-cart|remove)-/, '');"
+                    + "  out[(name.innerText || name.textContent).trim()] = ['add-to-cart-' + slug, 'remove-' + slug];"
+                    + "});"
+                    + "return out;";
+
+    // CSS used inside CATALOGUE_SCRIPT
+    private static final String ITEM_CSS = ".inventory_item";
+    private static final String ITEM_NAME_CSS = ".inventory_item_name";
+    private static final String BUTTON_CSS = "button[id^='add-to-cart'], button[id^='remove']";
+
+    // Opt-in speed flag: JS clicks skip WebDriver's visibility/overlay/interactability checks
+    private static final boolean BATCH_CLICKS = TestConfig.getBoolean("ui.inventory.batchClicks", false);
+
     private final By title = By.cssSelector(".title");
     private final By cartBadge = By.cssSelector(".shopping_cart_badge");
     private final By cartLink = By.cssSelector(".shopping_cart_link");
+    private final By inventoryItem = By.cssSelector(ITEM_CSS);
+
+    // product name -> its add/remove button ids, built once per page load
+    private Map<String, Buttons> catalogue;
+    private String catalogueToken;
 
     public InventoryPage(WebDriver driver) {
         super(driver);
     }
 
+    @Override
+    protected By readyMarker() {
+        return title;
+    }
+
     public boolean isLoaded() {
-        return waits.visible(title).getText().contains("Products");
+        return withElement(title, el -> el.getText().contains("Products"));
     }
 
     public void addItemByName(String itemName) {
-        String nameXpath = String.format(
-                "//div[contains(@class,'inventory_item_name') and normalize-space(.)='%s']",
-                itemName
-        );
+        addItems(List.of(itemName));
+    }
 
-        // Find the item name element based on exact visible text
-        By itemNameBy = By.xpath(nameXpath);
-        WebElement nameEl = waits.visible(itemNameBy);
+    public void addItems(List<String> items) {
+        if (items.isEmpty()) return;
 
-        // Climb to the inventory item container
-        WebElement itemContainer = nameEl.findElement(
-                By.xpath("./ancestor::div[contains(@class,'inventory_item')]")
-        );
+        List<String> ids = addButtonIds(items);
+        if (BATCH_CLICKS) {
+            if (!clickAll(ids)) {
+                // Page changed under us - rebuild once and retry
+                invalidateCatalogue();
+                if (!clickAll(addButtonIds(items))) {
+                    throw new IllegalStateException("Could not click 'Add to cart' for " + items
+                            + " (already in the cart: " + inCart(items) + ")");
+                }
+            }
+        } else {
+            // One direct lookup per item
+            for (int i = 0; i < items.size(); i++) {
+                try {
+                    driver.findElement(By.id(ids.get(i))).click();
+                } catch (NoSuchElementException | StaleElementReferenceException e) {
+                    invalidateCatalogue();
+                    driver.findElement(By.id(addButtonIds(List.of(items.get(i))).get(0))).click();
+                }
+            }
+        }
+        // Clicked buttons flip to "Remove"; the index already knows those ids, so it stays valid
 
-        // Click the Add to cart button within that container
-        WebElement addBtn = itemContainer.findElement(
-                By.xpath(".//button[contains(normalize-space(.),'Add to cart')]")
-        );
-        addBtn.click();
+        // Give the badge a moment to render so cartCount() can read it with a single lookup
+        waits.isPresent(cartBadge);
     }
 
-    public void addItems(List<String> items) {
+    public int cartCount() {
+        // Badge is removed from the DOM when the cart is empty
+        return waits.optional(cartBadge)
+                .map(badge -> Integer.parseInt(badge.getText()))
+                .orElse(0);
+    }
+
+    public void openCart() {
+        invalidateCatalogue();
+        onElement(cartLink, WebElement::click);
+    }
+
+    private boolean clickAll(List<String> ids) {
+        return Boolean.TRUE.equals(((JavascriptExecutor) driver).executeScript(CLICK_ALL_SCRIPT, catalogueToken, ids));
+    }
+
+    // Items showing their "Remove" button; failure path only, one lookup per item
+    private List<String> inCart(List<String> items) {
+        List<String> inCart = new ArrayList<>();
         for (String item : items) {
-            addItemByName(item);
+            Buttons buttons = catalogue().get(item);
+            if (buttons != null && !driver.findElements(By.id(buttons.remove())).isEmpty()) inCart.add(item);
         }
+        return inCart;
     }
 
-    public int cartCount() {
-        if (driver.findElements(cartBadge).isEmpty()) return 0;
-        return Integer.parseInt(driver.findElement(cartBadge).getText());
+    private List<String> addButtonIds(List<String> items) {
+        Map<String, Buttons> index = catalogue();
+        List<String> ids = new ArrayList<>(items.size());
+        for (String item : items) {
+            Buttons buttons = index.get(item);
+            if (buttons == null) {
+                throw new NoSuchElementException("No 'Add to cart' button for inventory item: " + item
+                        + " (known: " + index.keySet() + ")");
+            }
+            ids.add(buttons.add());
+        }
+        return ids;
     }
 
-    public void openCart() {
-        waits.visible(cartLink).click();
+    private Map<String, Buttons> catalogue() {
+        if (catalogue != null) return catalogue;
+
+        String token = Long.toHexString(System.nanoTime());
+        Map<String, Buttons> index = buildCatalogue(token);
+        if (index.isEmpty()) {
+            // Inventory not rendered yet
+            waits.visible(inventoryItem);
+            index = buildCatalogue(token);
+        }
+
+        catalogueToken = token;
+        catalogue = index;
+        return catalogue;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Buttons> buildCatalogue(String token) {
+        Object raw = ((JavascriptExecutor) driver)
+                .executeScript(CATALOGUE_SCRIPT, token, ITEM_CSS, ITEM_NAME_CSS, BUTTON_CSS);
+        Map<String, Buttons> index = new HashMap<>();
+        if (raw != null) {
+            ((Map<String, List<String>>) raw).forEach((name, ids) -> index.put(name, new Buttons(ids.get(0), ids.get(1))));
+        }
+        return index;
+    }
+
+    private void invalidateCatalogue() {
+        catalogue = null;
+        catalogueToken = null;
     }
+
+    private record Buttons(String add, String remove) {}
 }
@@ -1,7 +1,11 @@
 package com.missionqa.ui.pages;
 
+import com.missionqa.config.TestConfig;
+import com.missionqa.core.SessionInjector;
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
 
 public class LoginPage extends BasePage {
 
@@ -14,20 +18,29 @@ public class LoginPage extends BasePage {
         super(driver);
     }
 
+    @Override
+    protected By readyMarker() {
+        return loginBtn;
+    }
+
     public LoginPage enterUsername(String user) {
-        waits.visible(username).clear();
-        waits.visible(username).sendKeys(user);
+        onElement(username, el -> {
+            el.clear();
+            el.sendKeys(user);
+        });
         return this;
     }
 
     public LoginPage enterPassword(String pass) {
-        waits.visible(password).clear();
-        waits.visible(password).sendKeys(pass);
+        onElement(password, el -> {
+            el.clear();
+            el.sendKeys(pass);
+        });
         return this;
     }
 
     public void submit() {
-        waits.visible(loginBtn).click();
+        onElement(loginBtn, WebElement::click);
     }
 
     public void login(String user, String pass) {
@@ -36,11 +49,44 @@ public class LoginPage extends BasePage {
         submit();
     }
 
+    /**
+     * Logs in by replaying a session captured earlier on this worker (cookies + storage),
+     * then jumps straight to the inventory page. The first login per user goes through the
+     * UI and is captured; a rejected session falls back to the UI login.
+     */
+    public void loginReusingSession(String user, String pass) {
+        String baseUrl = TestConfig.uiBaseUrl();
+
+        SessionInjector.Snapshot snapshot = SessionInjector.cached(user, pass);
+        if (snapshot != null) {
+            SessionInjector.inject(driver, snapshot);
+            driver.get(baseUrl + InventoryPage.PATH);
+            if (driver.getCurrentUrl().contains(InventoryPage.PATH)) {
+                return;
+            }
+
+            // App bounced us back to login - drop the stale session and do it for real
+            SessionInjector.forget(user, pass);
+            driver.manage().deleteAllCookies();
+            ((JavascriptExecutor) driver).executeScript("window.localStorage.clear(); window.sessionStorage.clear();");
+            driver.get(baseUrl);
+        }
+
+        login(user, pass);
+
+        // A rejected login (e.g. locked out user) shows an error at once - don't sit out the URL timeout
+        if (!waits.urlContainsUnless(InventoryPage.PATH, error)) {
+            return; // nothing to cache
+        }
+        SessionInjector.remember(user, pass, SessionInjector.capture(driver));
+    }
+
+    // Instant checks: login already waited for the inventory URL or the error
     public boolean hasError() {
-        return !driver.findElements(error).isEmpty();
+        return !waits.isAbsent(error);
     }
 
     public String errorText() {
-        return hasError() ? driver.findElement(error).getText() : "";
+        return waits.optional(error).map(WebElement::getText).orElse("");
     }
 }
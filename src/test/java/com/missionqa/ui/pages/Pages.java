@@ -0,0 +1,43 @@
+package com.missionqa.ui.pages;
+
+import org.openqa.selenium.WebDriver;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Scenario-scoped page object registry.
+ * Step classes keep one instance per scenario, so each page object (with its Waits and
+ * cached element handles) is created once and reused by every step that needs it.
+ */
+public final class Pages {
+
+    private final WebDriver driver;
+    private final Map<Class<? extends BasePage>, BasePage> pages = new HashMap<>();
+
+    public Pages(WebDriver driver) {
+        this.driver = driver;
+    }
+
+    public <T extends BasePage> T get(Class<T> type) {
+        BasePage page = pages.get(type);
+        if (page == null) {
+            page = create(type);
+            pages.put(type, page);
+        }
+        return type.cast(page);
+    }
+
+    private BasePage create(Class<? extends BasePage> type) {
+        try {
+            return type.getConstructor(WebDriver.class).newInstance(driver);
+        } catch (InvocationTargetException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            throw new IllegalStateException("Failed to create page " + type.getSimpleName(), cause);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(type.getSimpleName() + " needs a public (WebDriver) constructor", e);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.missionqa.ui.steps;
 
+import com.missionqa.config.TestConfig;
 import com.missionqa.core.DriverProvider;
 import com.missionqa.ui.pages.*;
 import io.cucumber.java.en.*;
@@ -14,15 +15,26 @@ import static org.testng.Assert.*;
 
 public class UiSteps {
 
+        private static final boolean SESSION_INJECTION =
+                TestConfig.getBoolean("ui.session.injection", false);
+
+        // Cucumber creates this class per scenario, so the registry is scenario-scoped
+        private Pages pages;
+
         private WebDriver driver() {
                 return DriverProvider.get();
         }
 
-        private LoginPage loginPage() { return new LoginPage(driver()); }
-        private InventoryPage inventoryPage() { return new InventoryPage(driver()); }
-        private CartPage cartPage() { return new CartPage(driver()); }
-        private CheckoutInfoPage checkoutInfoPage() { return new CheckoutInfoPage(driver()); }
-        private CheckoutOverviewPage checkoutOverviewPage() { return new CheckoutOverviewPage(driver()); }
+        private Pages pages() {
+                if (pages == null) pages = new Pages(driver());
+                return pages;
+        }
+
+        private LoginPage loginPage() { return pages().get(LoginPage.class); }
+        private InventoryPage inventoryPage() { return pages().get(InventoryPage.class); }
+        private CartPage cartPage() { return pages().get(CartPage.class); }
+        private CheckoutInfoPage checkoutInfoPage() { return pages().get(CheckoutInfoPage.class); }
+        private CheckoutOverviewPage checkoutOverviewPage() { return pages().get(CheckoutOverviewPage.class); }
 
         // -----------------------------
         // Background steps
@@ -36,7 +48,15 @@ public class UiSteps {
 
         @Given("I login via UI as {string} with password {string}")
         public void iLoginViaUI(String username, String password) {
-                loginPage().login(username, password);
+                if (SESSION_INJECTION) {
+                        loginPage().loginReusingSession(username, password);
+                } else {
+                        loginPage().login(username, password);
+                }
+                // Only a successful login lands on the inventory; a rejected one stays put
+                if (driver().getCurrentUrl().contains(InventoryPage.PATH)) {
+                        inventoryPage().awaitReady();
+                }
         }
 
         @Given("I should be on the inventory page")
@@ -71,6 +91,7 @@ public class UiSteps {
         @When("I open the cart")
         public void iOpenTheCart() {
                 inventoryPage().openCart();
+                cartPage().awaitReady();
         }
 
         @When("I remove item {string}")
@@ -81,6 +102,7 @@ public class UiSteps {
         @When("I proceed to checkout")
         public void iProceedToCheckout() {
                 cartPage().clickCheckout();
+                checkoutInfoPage().awaitReady();
         }
 
         @When("I enter checkout info first {string} last {string} zip {string}")
@@ -91,13 +113,15 @@ public class UiSteps {
         @When("I continue to the overview page")
         public void iContinueToTheOverviewPage() {
                 checkoutInfoPage().clickContinue();
+                checkoutOverviewPage().awaitReady();
         }
 
         @Then("the item total should equal the sum of item prices")
         public void itemTotalShouldEqualSumOfPrices() {
+                CheckoutOverviewPage.Summary summary = checkoutOverviewPage().summary();
                 assertEquals(
-                        checkoutOverviewPage().displayedItemTotal(),
-                        checkoutOverviewPage().sumOfItemPrices(),
+                        summary.itemTotal(),
+                        summary.itemPriceSum(),
                         "Displayed item total does not match sum of item prices"
                 );
         }
@@ -1,25 +1,30 @@
 @api
 Feature: User API contract and behavior validation
 
-  @regression
+  @regression @mock:users
   Scenario: Should see LIST USERS of all existing users
     Given I get the default list of users for on 1st page
     When I get the list of all users within every page
     Then I should see total users count equals the number of user ids
 
-  @regression
+  @regression @mock:users
+  Scenario: Should see every page of LIST USERS when fetched concurrently
+    When 8 callers get the list of all users within every page at once
+    Then every caller should see each page exactly once, decoded
+
+  @regression @mock:users
   Scenario: Should see SINGLE USER data
     Given I make a search for user 3
     Then I should see the following user data
       | first_name | email               |
       | Emma       | emma.wong@reqres.in |
 
-  @regression
+  @regression @mock:users
   Scenario: Should see SINGLE USER NOT FOUND error code
     Given I make a search for user 55
     Then I receive error code 404 in response
 
-  @regression
+  @regression @mock:users
   Scenario Outline: CREATE a user
     Given I create a user with following <Name> <Job>
     Then response should contain the following data
@@ -30,14 +35,14 @@ Feature: User API contract and behavior validation
       | Peter | Manager |
       | Liza  | Sales   |
 
-  @regression
+  @regression @mock:login
   Scenario: LOGIN - SUCCESSFUL by a user
     Given I login unsuccessfully with the following data
       | Email              | Password   |
       | eve.holt@reqres.in | cityslicka |
     Then I should get a response code of 200
 
-  @regression
+  @regression @mock:login
   Scenario: LOGIN - UNSUCCESSFUL by a user
     Given I login unsuccessfully with the following data
       | Email              | Password |
@@ -46,7 +51,7 @@ Feature: User API contract and behavior validation
     And I should see the following response message:
       | "error": "Missing password" |
 
-  @regression
+  @regression @mock:users
   Scenario: Should see the list of users with DELAYED RESPONSE
     Given I wait for the user list to load
     Then I should see that every user has a unique id
@@ -0,0 +1,47 @@
+@reporting
+Feature: Cucumber JSON report merging, labeling and de-duplication
+    ReportMerger combines shard reports into one, labels feature names per run and keeps
+    only the last attempt of a scenario reported more than once.
+    Fixtures: reports/shard-0.json (Background + scenario 10, failed) and
+    reports/shard-1.json (Background + scenario 20, then Background + scenario 10, passed);
+    reports/history.json is a previous duration history with keys of deleted and moved scenarios.
+
+  @regression
+  Scenario: Shard reports of the same feature come out as one labeled feature
+    When I merge the reports "shard-0.json, shard-1.json" labeled "UI Chrome"
+    Then the merged report should have the features "Checkout [UI Chrome]"
+    And 2 scenarios should be kept and 1 duplicate attempt dropped
+
+  @regression
+  Scenario: A scenario reported twice keeps only its last attempt and that attempt's background
+    When I merge the reports "shard-0.json, shard-1.json" labeled "UI Chrome"
+    Then the merged feature "Checkout [UI Chrome]" should have the elements "background, scenario:20, background, scenario:10"
+    And the merged scenario at line 10 should have passed
+
+  @regression
+  Scenario: Different labels keep runs of the same feature apart
+    When I merge the report "shard-0.json" labeled "UI Chrome" with the report "shard-1.json" labeled "UI Firefox"
+    Then the merged report should have the features "Checkout [UI Chrome], Checkout [UI Firefox]"
+    And 3 scenarios should be kept and 0 duplicate attempts dropped
+
+  @regression
+  Scenario: A report can be labeled in place
+    When I label the report "shard-1.json" in place as "API"
+    Then the merged report should have the features "Checkout [API]"
+    And the merged feature "Checkout [API]" should have the elements "background, scenario:20, background, scenario:10"
+
+  @regression
+  Scenario: Recorded scenario durations include the scenario's background
+    When I merge the reports "shard-0.json, shard-1.json" labeled "UI Chrome" into a duration history
+    Then the duration history should have 371 ms for the scenario at line 10
+    And the duration history should have 411 ms for the scenario at line 20
+    And reading the merged report as a duration history should give the same times
+
+  @regression
+  Scenario: Updating a duration history smooths observed times and drops stale scenarios
+    Given the previous duration history "history.json"
+    When I merge the reports "shard-0.json, shard-1.json" labeled "UI Chrome" into a duration history
+    Then the duration history should have 321 ms for the scenario at line 10
+    And the duration history should have 411 ms for the scenario at line 20
+    And the duration history should have 5000 ms for the scenario at line 18
+    And the duration history should only have the scenarios at lines "10, 18, 20"